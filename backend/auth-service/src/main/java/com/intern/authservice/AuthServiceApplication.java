@@ -1,9 +1,16 @@
 package com.intern.authservice;
 
+import com.intern.common.security.InternalAuthFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// Only the data-access part and the /internal guard of the common module; user tokens are
+// issued and verified locally here
+@SpringBootApplication(scanBasePackages = {"com.intern.authservice", "com.intern.common.config"})
+@Import(InternalAuthFilter.class)
+@EnableScheduling
 public class AuthServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,47 @@
+package com.intern.authservice.controller;
+
+import com.intern.authservice.security.BcryptCostCalibrator;
+import com.intern.authservice.security.JwtUtil;
+import com.intern.authservice.security.LoginThrottle;
+import com.intern.authservice.security.PasswordHashingExecutor;
+import com.intern.authservice.security.SigningKeyRing;
+import com.intern.authservice.security.TokenRevocationList;
+import com.intern.authservice.security.UserExistenceFilter;
+import com.intern.common.config.ConnectionPoolMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final JwtUtil jwtUtil;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final UserExistenceFilter userExistenceFilter;
+    private final TokenRevocationList revocationList;
+    private final PasswordHashingExecutor passwordHashing;
+    private final LoginThrottle loginThrottle;
+    private final SigningKeyRing keyRing;
+    private final BcryptCostCalibrator bcryptCalibrator;
+
+    @GetMapping
+    public ResponseEntity<?> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("jwtClaimsCache", jwtUtil.cacheMetrics());
+        metrics.put("connectionPool", connectionPoolMetrics.metrics());
+        metrics.put("userExistenceFilter", userExistenceFilter.metrics());
+        metrics.put("revokedTokens", revocationList.size());
+        metrics.put("passwordHashing", passwordHashing.metrics());
+        metrics.put("bcryptCalibration", bcryptCalibrator.metrics());
+        metrics.put("loginThrottle", loginThrottle.metrics());
+        metrics.put("signingKeys", keyRing.metrics());
+        return ResponseEntity.ok(metrics);
+    }
+}
@@ -10,4 +10,7 @@ public class AuthResponse {
     private Long userId;
     private String email;
     private String name;
+    private String refreshToken;
+    // Lifetime of the access token in seconds
+    private Long expiresIn;
 }
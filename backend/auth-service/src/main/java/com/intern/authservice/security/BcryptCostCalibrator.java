@@ -0,0 +1,88 @@
+package com.intern.authservice.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures BCrypt on this machine at startup and recommends a strength for the target hash
+ * time. It only reports: the stored strength is the deployment's auth.hashing.bcrypt.strength,
+ * so replicas on different hardware never disagree and keep rehashing each other's hashes.
+ * Every extra strength step doubles the work, so one measured hash at the minimum strength is
+ * enough to estimate the others.
+ */
+@Slf4j
+@Component
+public class BcryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    @Value("${auth.hashing.bcrypt.strength:12}")
+    private int configuredStrength;
+
+    @Value("${auth.hashing.target-ms:250}")
+    private long targetMs;
+
+    @Value("${auth.hashing.bcrypt.min-strength:10}")
+    private int minStrength;
+
+    @Value("${auth.hashing.bcrypt.max-strength:14}")
+    private int maxStrength;
+
+    private volatile int recommendedStrength = -1;
+    private volatile long configuredEstimateMs = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        // The first hash includes class loading and JIT warm-up, so keep the fastest sample
+        long fastestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - started);
+        }
+        double baseMs = fastestNanos / 1_000_000.0;
+
+        recommendedStrength = recommend(baseMs, targetMs, minStrength, maxStrength);
+        configuredEstimateMs = Math.round(baseMs * Math.pow(2, configuredStrength - minStrength));
+        if (recommendedStrength != configuredStrength) {
+            log.warn("BCrypt strength {} takes about {} ms per hash here; strength {} would meet the {} ms target",
+                    configuredStrength, configuredEstimateMs, recommendedStrength, targetMs);
+        } else {
+            log.info("BCrypt strength {} takes about {} ms per hash (target {} ms)",
+                    configuredStrength, configuredEstimateMs, targetMs);
+        }
+    }
+
+    /**
+     * Returns the highest strength within [minStrength, maxStrength] whose estimated hash
+     * time stays at or below targetMs, given the measured time at minStrength.
+     */
+    static int recommend(double minStrengthMs, long targetMs, int minStrength, int maxStrength) {
+        double estimatedMs = minStrengthMs;
+        int strength = minStrength;
+        while (strength < maxStrength && estimatedMs * 2 <= targetMs) {
+            estimatedMs *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("configuredStrength", configuredStrength);
+        // Both -1 until the startup measurement has run
+        metrics.put("configuredEstimateMs", configuredEstimateMs);
+        metrics.put("recommendedStrength", recommendedStrength);
+        metrics.put("targetMs", targetMs);
+        return metrics;
+    }
+}
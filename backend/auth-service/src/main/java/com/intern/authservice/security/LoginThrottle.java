@@ -0,0 +1,126 @@
+package com.intern.authservice.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-window limits checked before any password is hashed, so a credential stuffing run
+ * is refused cheaply instead of consuming hashing capacity.
+ * <ul>
+ *     <li>per client IP: all login and register attempts</li>
+ *     <li>per account: failed logins, reset by a successful one</li>
+ * </ul>
+ */
+@Component
+public class LoginThrottle {
+
+    @Value("${auth.throttle.ip-max-attempts:30}")
+    private int ipMaxAttempts;
+
+    @Value("${auth.throttle.ip-window-ms:60000}")
+    private long ipWindowMs;
+
+    @Value("${auth.throttle.account-max-failures:5}")
+    private int accountMaxFailures;
+
+    @Value("${auth.throttle.account-window-ms:900000}")
+    private long accountWindowMs;
+
+    private final Map<String, Window> ipAttempts = new ConcurrentHashMap<>();
+    private final Map<String, Window> accountFailures = new ConcurrentHashMap<>();
+    private final AtomicLong throttled = new AtomicLong();
+
+    /**
+     * Counts an attempt from the given IP and refuses it when the IP or the account is over
+     * its limit. The account may be null, e.g. for registrations.
+     */
+    public void checkAttempt(String clientIp, String email) {
+        long now = System.currentTimeMillis();
+
+        Window account = email != null ? accountFailures.get(accountKey(email)) : null;
+        // Failures are counted after the fact, so the limit itself already blocks
+        if (account != null && account.exceeds(accountMaxFailures - 1, accountWindowMs, now)) {
+            throttled.incrementAndGet();
+            throw new ThrottledException(account.retryAfterSeconds(accountWindowMs, now));
+        }
+
+        Window ip = ipAttempts.compute(clientIp, (key, window) -> Window.increment(window, ipWindowMs, now));
+        if (ip.exceeds(ipMaxAttempts, ipWindowMs, now)) {
+            throttled.incrementAndGet();
+            throw new ThrottledException(ip.retryAfterSeconds(ipWindowMs, now));
+        }
+    }
+
+    public void recordFailure(String email) {
+        long now = System.currentTimeMillis();
+        accountFailures.compute(accountKey(email), (key, window) -> Window.increment(window, accountWindowMs, now));
+    }
+
+    public void recordSuccess(String email) {
+        accountFailures.remove(accountKey(email));
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("trackedIps", ipAttempts.size());
+        metrics.put("trackedAccounts", accountFailures.size());
+        metrics.put("throttled", throttled.get());
+        return metrics;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.throttle.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        ipAttempts.values().removeIf(window -> window.isExpired(ipWindowMs, now));
+        accountFailures.values().removeIf(window -> window.isExpired(accountWindowMs, now));
+    }
+
+    private String accountKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private record Window(long startedAtMillis, int count) {
+
+        static Window increment(Window window, long windowMs, long now) {
+            if (window == null || window.isExpired(windowMs, now)) {
+                return new Window(now, 1);
+            }
+            return new Window(window.startedAtMillis, window.count + 1);
+        }
+
+        boolean isExpired(long windowMs, long now) {
+            return now - startedAtMillis >= windowMs;
+        }
+
+        boolean exceeds(int limit, long windowMs, long now) {
+            return !isExpired(windowMs, now) && count > limit;
+        }
+
+        long retryAfterSeconds(long windowMs, long now) {
+            return Math.max(1, (startedAtMillis + windowMs - now + 999) / 1000);
+        }
+    }
+
+    /**
+     * Too many attempts; carries the number of seconds until the window resets.
+     */
+    public static class ThrottledException extends RuntimeException {
+        private final long retryAfterSeconds;
+
+        public ThrottledException(long retryAfterSeconds) {
+            super("Too many attempts, please try again later");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+}
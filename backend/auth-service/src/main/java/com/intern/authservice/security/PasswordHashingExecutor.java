@@ -0,0 +1,160 @@
+package com.intern.authservice.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs password hashing on a small, bounded pool instead of request threads. BCrypt is
+ * deliberately slow, so a login burst would otherwise occupy every request thread and
+ * starve cheap endpoints such as /validate. When the queue is full, or a hash cannot start
+ * within the wait limit, the call fails fast with {@link OverloadedException}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+
+    // 0 uses one thread per available processor
+    @Value("${auth.hashing.threads:0}")
+    private int threads;
+
+    @Value("${auth.hashing.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${auth.hashing.max-wait-ms:2000}")
+    private long maxWaitMs;
+
+    private ThreadPoolExecutor executor;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong rehashed = new AtomicLong();
+    private final AtomicLong rehashSkipped = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Whether the stored hash uses an outdated algorithm or cost. Cheap: only parses the hash.
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes the password with the current settings off the caller's path and hands the new
+     * hash to the callback. Skipped when the pool is busy; the next login tries again.
+     */
+    public void rehashInBackground(String rawPassword, Consumer<String> onHashed) {
+        try {
+            executor.execute(() -> {
+                onHashed.accept(passwordEncoder.encode(rawPassword));
+                rehashed.incrementAndGet();
+            });
+        } catch (RejectedExecutionException e) {
+            rehashSkipped.incrementAndGet();
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        long done = completed.get();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("threads", executor.getMaximumPoolSize());
+        metrics.put("active", executor.getActiveCount());
+        metrics.put("queued", executor.getQueue().size());
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("completed", done);
+        metrics.put("rejected", rejected.get());
+        metrics.put("timedOut", timedOut.get());
+        metrics.put("rehashed", rehashed.get());
+        metrics.put("rehashSkipped", rehashSkipped.get());
+        metrics.put("averageHashMs", done > 0 ? totalHashNanos.get() / 1_000_000.0 / done : 0.0);
+        return metrics;
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    totalHashNanos.addAndGet(System.nanoTime() - started);
+                    completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new OverloadedException();
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drop it if still queued; the caller has already given up
+            future.cancel(false);
+            timedOut.incrementAndGet();
+            throw new OverloadedException();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password hashing failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new OverloadedException();
+        }
+    }
+
+    /**
+     * Hashing capacity is exhausted; the request should be retried shortly.
+     */
+    public static class OverloadedException extends RuntimeException {
+        public OverloadedException() {
+            super("Authentication is temporarily overloaded, please retry shortly");
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.intern.authservice.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ES256 (P-256) keys used to sign access tokens. Tokens carry the id of their key ("kid"),
+ * and every key that may still have unexpired tokens is published as a JWKS, so other
+ * services verify tokens with public keys only.
+ * <p>
+ * With JWT_SIGNING_PRIVATE_KEY / JWT_SIGNING_PUBLIC_KEY set, that pair is used as is. Otherwise
+ * a key pair is generated at startup and replaced every rotation interval; a replaced key keeps
+ * being published until the last token it signed has expired. The next key is published a
+ * prepublish interval before it starts signing, so verifiers that refresh the JWKS on a schedule
+ * already know it when the first token signed with it arrives.
+ * <p>
+ * Generated keys exist in one process only, so they are refused when more than one auth-service
+ * instance is configured: each replica would sign with a key the others never publish.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+    private static final int COORDINATE_BYTES = 32;
+
+    // Base64 PKCS#8 DER of an EC P-256 private key
+    @Value("${jwt.signing.private-key:}")
+    private String configuredPrivateKey;
+
+    // Base64 X.509 DER of the matching public key
+    @Value("${jwt.signing.public-key:}")
+    private String configuredPublicKey;
+
+    // Generated keys only; 0 disables rotation
+    @Value("${jwt.signing.rotation-interval-ms:86400000}")
+    private long rotationIntervalMs;
+
+    // At least one JWKS refresh interval of the verifiers (jwt.jwks.refresh-interval-ms), plus margin
+    @Value("${jwt.signing.prepublish-ms:360000}")
+    private long prepublishMs;
+
+    // Number of auth-service instances; more than one requires a configured key pair
+    @Value("${jwt.signing.instances:1}")
+    private int instances;
+
+    @Value("${jwt.expiration}")
+    private long accessTokenLifetimeMs;
+
+    private volatile SigningKey current;
+    private final Map<String, PublishedKey> published = new ConcurrentHashMap<>();
+    private volatile long currentSinceMillis;
+    // Published but not yet signing; only touched by init and the rotation task
+    private KeyPair next;
+    private long nextPublishedAtMillis;
+    private boolean generated;
+
+    public record SigningKey(String keyId, PrivateKey privateKey) {
+    }
+
+    // retiredAtMillis is 0 while the key signs or is about to
+    private record PublishedKey(ECPublicKey publicKey, long retiredAtMillis) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (!configuredPrivateKey.isBlank() && !configuredPublicKey.isBlank()) {
+            activate(loadConfiguredKeyPair());
+            log.info("Signing tokens with configured key {}", current.keyId());
+        } else {
+            if (instances > 1) {
+                throw new IllegalStateException("JWT_SIGNING_PRIVATE_KEY and JWT_SIGNING_PUBLIC_KEY must be set when "
+                        + instances + " auth-service instances share the token issuer");
+            }
+            generated = true;
+            activate(generateKeyPair());
+            log.warn("No signing key configured; generated key {}. Tokens signed by it become invalid on restart",
+                    current.keyId());
+        }
+    }
+
+    public SigningKey current() {
+        return current;
+    }
+
+    /**
+     * Public key for the given key id, or null for keys that were never issued or have been
+     * retired for longer than a token lives.
+     */
+    public PublicKey verificationKey(String keyId) {
+        PublishedKey key = keyId != null ? published.get(keyId) : null;
+        return key != null ? key.publicKey() : null;
+    }
+
+    /**
+     * The published keys in JWK form (RFC 7517/7518), current key first. Includes the next key
+     * once it has been pre-published.
+     */
+    public List<Map<String, Object>> jwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        SigningKey signingKey = current;
+        keys.add(toJwk(signingKey.keyId(), published.get(signingKey.keyId()).publicKey()));
+        published.forEach((keyId, key) -> {
+            if (!keyId.equals(signingKey.keyId())) {
+                keys.add(toJwk(keyId, key.publicKey()));
+            }
+        });
+        return keys;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-check-interval-ms:60000}")
+    public void rotateIfDue() {
+        long now = System.currentTimeMillis();
+        // Keep a retired key until every token it signed has expired, plus a minute of clock skew
+        published.values().removeIf(key -> key.retiredAtMillis() > 0
+                && key.retiredAtMillis() + accessTokenLifetimeMs + 60_000 < now);
+
+        if (!generated || rotationIntervalMs <= 0) {
+            return;
+        }
+        long currentAge = now - currentSinceMillis;
+        if (next == null) {
+            if (currentAge >= rotationIntervalMs - prepublishMs) {
+                next = generateKeyPair();
+                nextPublishedAtMillis = now;
+                log.info("Published next signing key {}", publish(next));
+            }
+            return;
+        }
+        // Sign with the next key only once every verifier has had a refresh to pick it up
+        if (currentAge < rotationIntervalMs || now - nextPublishedAtMillis < prepublishMs) {
+            return;
+        }
+        String previousKeyId = current.keyId();
+        activate(next);
+        next = null;
+        published.computeIfPresent(previousKeyId, (keyId, key) -> new PublishedKey(key.publicKey(), now));
+        log.info("Rotated signing key {} to {}", previousKeyId, current.keyId());
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("currentKeyId", current.keyId());
+        metrics.put("publishedKeys", published.size());
+        metrics.put("generated", generated);
+        metrics.put("nextKeyPublished", next != null);
+        return metrics;
+    }
+
+    private void activate(KeyPair keyPair) {
+        String keyId = publish(keyPair);
+        current = new SigningKey(keyId, keyPair.getPrivate());
+        currentSinceMillis = System.currentTimeMillis();
+    }
+
+    private String publish(KeyPair keyPair) {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        String keyId = keyId(publicKey);
+        published.put(keyId, new PublishedKey(publicKey, 0));
+        return keyId;
+    }
+
+    private KeyPair loadConfiguredKeyPair() {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(configuredPrivateKey.trim())));
+            PublicKey publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(configuredPublicKey.trim())));
+            return new KeyPair(publicKey, privateKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid JWT signing key pair", e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("EC P-256 not available", e);
+        }
+    }
+
+    // RFC 7638 thumbprint, so the same key always gets the same id
+    private static String keyId(ECPublicKey publicKey) {
+        String canonical = "{\"crv\":\"P-256\",\"kty\":\"EC\",\"x\":\"" + coordinate(publicKey.getW().getAffineX())
+                + "\",\"y\":\"" + coordinate(publicKey.getW().getAffineY()) + "\"}";
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Map<String, Object> toJwk(String keyId, ECPublicKey publicKey) {
+        Map<String, Object> jwk = new HashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    // Fixed-length unsigned big-endian, as JWK requires
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[COORDINATE_BYTES];
+        int length = Math.min(bytes.length, COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
@@ -0,0 +1,260 @@
+package com.intern.authservice.security;
+
+import com.intern.authservice.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory answer to "does a user with this email exist?".
+ * A Bloom filter rules out unknown emails without touching the database, and emails
+ * confirmed recently are answered from memory; only a possible positive that has not
+ * been confirmed yet costs a database lookup.
+ * <p>
+ * The filter is rebuilt from the database periodically. Registrations made while the snapshot
+ * is read are replayed into the new filter before it is swapped in. Users are never deleted,
+ * so a Bloom filter that cannot forget an email is enough.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExistenceFilter {
+
+    private final UserRepository userRepository;
+
+    @Value("${auth.user-filter.expected-users:100000}")
+    private int expectedUsers;
+
+    @Value("${auth.user-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${auth.user-filter.confirmed-ttl-ms:300000}")
+    private long confirmedTtlMs;
+
+    @Value("${auth.user-filter.confirmed-max-entries:100000}")
+    private int confirmedMaxEntries;
+
+    private volatile BloomFilter bloomFilter;
+    // Email -> time of confirmation, least recently used first; guarded by confirmedLock
+    private Map<String, Long> confirmed;
+    private final ReentrantLock confirmedLock = new ReentrantLock();
+    private long confirmedEvictions;
+
+    // Guards the filter swap against concurrent registrations; not synchronized, to avoid pinning
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Set<String> registeredDuringRebuild;
+
+    private final AtomicLong rejectedInMemory = new AtomicLong();
+    private final AtomicLong confirmedInMemory = new AtomicLong();
+    private final AtomicLong databaseLookups = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        confirmed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > confirmedMaxEntries) {
+                    confirmedEvictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.user-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${auth.user-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        beginRebuild();
+        BloomFilter filter;
+        int size;
+        try {
+            List<String> emails = userRepository.findAllEmails();
+            filter = new BloomFilter(Math.max(expectedUsers, emails.size() * 2), falsePositiveRate);
+            emails.forEach(filter::add);
+            size = emails.size();
+        } catch (RuntimeException e) {
+            finishRebuild(null);
+            throw e;
+        }
+        finishRebuild(filter);
+        log.info("User existence filter rebuilt with {} email(s)", size);
+    }
+
+    public boolean exists(String email) {
+        BloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(email)) {
+            rejectedInMemory.incrementAndGet();
+            return false;
+        }
+
+        Long confirmedAt;
+        confirmedLock.lock();
+        try {
+            confirmedAt = confirmed.get(email);
+        } finally {
+            confirmedLock.unlock();
+        }
+        if (confirmedAt != null && System.currentTimeMillis() - confirmedAt < confirmedTtlMs) {
+            confirmedInMemory.incrementAndGet();
+            return true;
+        }
+
+        databaseLookups.incrementAndGet();
+        boolean exists = userRepository.existsByEmail(email);
+        if (exists) {
+            markConfirmed(email);
+        } else {
+            confirmedLock.lock();
+            try {
+                confirmed.remove(email);
+            } finally {
+                confirmedLock.unlock();
+            }
+        }
+        return exists;
+    }
+
+    public void onUserRegistered(String email) {
+        rebuildLock.lock();
+        try {
+            BloomFilter filter = bloomFilter;
+            if (filter != null) {
+                filter.add(email);
+            }
+            if (registeredDuringRebuild != null) {
+                registeredDuringRebuild.add(email);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+        markConfirmed(email);
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("rejectedInMemory", rejectedInMemory.get());
+        metrics.put("confirmedInMemory", confirmedInMemory.get());
+        metrics.put("databaseLookups", databaseLookups.get());
+        confirmedLock.lock();
+        try {
+            metrics.put("confirmedEntries", confirmed.size());
+            metrics.put("confirmedMaxEntries", confirmedMaxEntries);
+            metrics.put("confirmedEvictions", confirmedEvictions);
+        } finally {
+            confirmedLock.unlock();
+        }
+        return metrics;
+    }
+
+    private void beginRebuild() {
+        rebuildLock.lock();
+        try {
+            registeredDuringRebuild = new HashSet<>();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Replays registrations made since beginRebuild into the new filter and swaps it in;
+    // with null, only ends the rebuild
+    private void finishRebuild(BloomFilter filter) {
+        rebuildLock.lock();
+        try {
+            if (filter != null) {
+                registeredDuringRebuild.forEach(filter::add);
+                bloomFilter = filter;
+            }
+            registeredDuringRebuild = null;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // At capacity the least recently used email goes, rather than every confirmation at once
+    private void markConfirmed(String email) {
+        confirmedLock.lock();
+        try {
+            confirmed.put(email, System.currentTimeMillis());
+        } finally {
+            confirmedLock.unlock();
+        }
+    }
+
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final int bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedEntries, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+            this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        void add(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                int index = bit >>> 6;
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(index);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(index, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 64-bit FNV-1a followed by a murmur3 finalizer
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
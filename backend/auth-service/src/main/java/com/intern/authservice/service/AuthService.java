@@ -6,8 +6,14 @@ import com.intern.authservice.dto.RegisterRequest;
 import com.intern.authservice.model.User;
 import com.intern.authservice.repository.UserRepository;
 import com.intern.authservice.security.JwtUtil;
+import com.intern.authservice.security.LoginThrottle;
+import com.intern.authservice.security.PasswordHashingExecutor;
+import com.intern.authservice.security.TokenRevocationList;
+import com.intern.authservice.security.UserExistenceFilter;
+import com.intern.common.security.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,10 +21,15 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final LoginThrottle loginThrottle;
     private final JwtUtil jwtUtil;
+    private final UserExistenceFilter userExistenceFilter;
+    private final TokenRevocationList revocationList;
+    private final RefreshTokenService refreshTokenService;
 
-    public AuthResponse register(RegisterRequest request) {
+    public AuthResponse register(RegisterRequest request, String clientIp) {
+        loginThrottle.checkAttempt(clientIp, null);
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
@@ -26,32 +37,76 @@ public class AuthService {
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashing.encode(request.getPassword()));
 
-        user = userRepository.save(user);
-
-        String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        try {
+            user = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration of the same address, in any case, won the unique index
+            throw new RuntimeException("Email already exists");
+        }
+        userExistenceFilter.onUserRegistered(user.getEmail());
 
-        return new AuthResponse(token, user.getId(), user.getEmail(), user.getName());
+        return issueTokens(user, refreshTokenService.issue(user.getId()));
     }
 
-    public AuthResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("Invalid email or password"));
+    /**
+     * Throttling is checked before the user lookup and the hash, so refused attempts cost
+     * neither a database query nor hashing time.
+     */
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        loginThrottle.checkAttempt(clientIp, request.getEmail());
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null || !passwordHashing.matches(request.getPassword(), user.getPassword())) {
+            loginThrottle.recordFailure(request.getEmail());
             throw new RuntimeException("Invalid email or password");
         }
+        loginThrottle.recordSuccess(request.getEmail());
+        upgradeHashIfOutdated(user, request.getPassword());
+
+        return issueTokens(user, refreshTokenService.issue(user.getId()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token. Revocation
+     * is enforced here: a revoked, expired or reused refresh token gets nothing.
+     */
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        if (rotation == null) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+        User user = userRepository.findById(rotation.userId())
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        return issueTokens(user, rotation.refreshToken());
+    }
+
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
 
+    private AuthResponse issueTokens(User user, String refreshToken) {
         String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        return new AuthResponse(token, user.getId(), user.getEmail(), user.getName(), refreshToken,
+                jwtUtil.getExpirationMs() / 1000);
+    }
 
-        return new AuthResponse(token, user.getId(), user.getEmail(), user.getName());
+    private void upgradeHashIfOutdated(User user, String rawPassword) {
+        String storedHash = user.getPassword();
+        if (passwordHashing.upgradeEncoding(storedHash)) {
+            passwordHashing.rehashInBackground(rawPassword,
+                    newHash -> userRepository.replacePasswordHash(user.getId(), storedHash, newHash));
+        }
     }
 
     public boolean validateToken(String token) {
         try {
-            String email = jwtUtil.extractEmail(token);
-            return userRepository.existsByEmail(email) && !jwtUtil.isTokenExpired(token);
+            Claims claims = jwtUtil.extractClaims(token);
+            if (jwtUtil.isExpired(claims) || revocationList.isRevoked(VerifiedClaimsCache.hash(token))) {
+                return false;
+            }
+            return userExistenceFilter.exists(claims.getSubject());
         } catch (Exception e) {
             return false;
         }
@@ -60,4 +115,9 @@ public class AuthService {
     public Long getUserIdFromToken(String token) {
         return jwtUtil.extractUserId(token);
     }
+
+    public void revokeToken(String token) {
+        Claims claims = jwtUtil.extractClaims(token);
+        revocationList.revoke(VerifiedClaimsCache.hash(token), claims.getExpiration().getTime());
+    }
 }
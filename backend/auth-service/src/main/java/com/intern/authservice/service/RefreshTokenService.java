@@ -0,0 +1,112 @@
+package com.intern.authservice.service;
+
+import com.intern.authservice.model.RefreshToken;
+import com.intern.authservice.repository.RefreshTokenRepository;
+import com.intern.common.security.VerifiedClaimsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens. Tokens are random strings handed to the client once;
+ * only their hash is stored. Every refresh consumes the presented token and returns a new
+ * one, and a consumed token presented again (a copy in someone else's hands) revokes the
+ * whole family, logging out both holders. A token presented again within a short grace window
+ * of its first use is taken to be a concurrent refresh from another tab of the same browser
+ * and gets a token of its own in the same family instead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration:2592000000}")
+    private long refreshExpirationMs;
+
+    @Value("${jwt.refresh-reuse-grace-ms:10000}")
+    private long reuseGraceMs;
+
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID());
+    }
+
+    /**
+     * Consumes the token and issues its successor. Returns null when the token is unknown,
+     * expired or was used before the grace window; in the last case the family is revoked as well.
+     */
+    @Transactional
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(VerifiedClaimsCache.hash(rawToken))
+                .orElse(null);
+        if (token == null) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (token.getExpiresAt().isBefore(now)) {
+            return null;
+        }
+        if (token.getUsedAt() != null && !withinGrace(token.getUsedAt(), now)) {
+            refreshTokenRepository.deleteFamily(token.getFamilyId());
+            log.warn("Refresh token reuse for user {}, session revoked", token.getUserId());
+            return null;
+        }
+        if (token.getUsedAt() == null) {
+            // Updates nothing if a concurrent refresh consumed the token a moment ago, which the grace window allows
+            refreshTokenRepository.markUsed(token.getId(), now);
+        }
+
+        return new Rotation(token.getUserId(), issue(token.getUserId(), token.getFamilyId()));
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(VerifiedClaimsCache.hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.deleteFamily(token.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh token(s)", purged);
+        }
+    }
+
+    private boolean withinGrace(LocalDateTime usedAt, LocalDateTime now) {
+        return !usedAt.plus(Duration.ofMillis(reuseGraceMs)).isBefore(now);
+    }
+
+    private String issue(Long userId, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(VerifiedClaimsCache.hash(rawToken));
+        token.setUserId(userId);
+        token.setFamilyId(familyId);
+        token.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    public record Rotation(Long userId, String refreshToken) {
+    }
+}
@@ -0,0 +1,2 @@
+-- Login and registration look users up by lower(email)
+CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (lower(email));
@@ -0,0 +1,10 @@
+-- Emails are unique regardless of case, so a lookup by lower(email) finds at most one user.
+-- Where accounts differ only in case, the oldest keeps the address; later ones keep their data
+-- under a marked, non-deliverable address that support can restore by hand.
+UPDATE users u
+SET email = left('duplicate-' || u.id || '-' || u.email, 255)
+WHERE EXISTS (SELECT 1 FROM users earlier
+              WHERE lower(earlier.email) = lower(u.email) AND earlier.id < u.id);
+
+DROP INDEX IF EXISTS idx_users_email_lower;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email));
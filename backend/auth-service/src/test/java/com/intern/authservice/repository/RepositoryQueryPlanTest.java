@@ -0,0 +1,100 @@
+package com.intern.authservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks the plan of the user and refresh token lookups against the schema the migrations
+ * create. Sequential scans are disabled for the session, so a "Seq Scan" in a plan means no
+ * index can serve that query shape. The derived and JPQL queries are written out as the SQL
+ * Hibernate generates for them. findAllEmails reads every user by design and is not checked.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .table("flyway_history_auth")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (email, password, name, created_at) "
+                    + "SELECT 'User' || g || '@example.com', '{bcrypt}hash', 'User ' || g, now() "
+                    + "FROM generate_series(1, 50000) g");
+            statement.execute("INSERT INTO refresh_tokens (token_hash, user_id, family_id, expires_at) "
+                    + "SELECT md5(g::text), g, gen_random_uuid(), now() + interval '30 days' "
+                    + "FROM generate_series(1, 50000) g");
+            statement.execute("ANALYZE");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("UserRepository.findByEmail",
+                        "SELECT * FROM users u WHERE lower(u.email) = lower('user42@example.com')"),
+                Arguments.of("UserRepository.existsByEmail",
+                        "SELECT count(u.id) > 0 FROM users u WHERE lower(u.email) = lower('USER42@example.com')"),
+                Arguments.of("UserRepository.replacePasswordHash",
+                        "UPDATE users SET password = 'new' WHERE id = 42 AND password = 'old'"),
+                Arguments.of("RefreshTokenRepository.findByTokenHash",
+                        "SELECT * FROM refresh_tokens t WHERE t.token_hash = md5('42')"),
+                Arguments.of("RefreshTokenRepository.markUsed",
+                        "UPDATE refresh_tokens SET used_at = now() WHERE id = 42 AND used_at IS NULL"),
+                Arguments.of("RefreshTokenRepository.deleteFamily",
+                        "DELETE FROM refresh_tokens t WHERE t.family_id = '00000000-0000-0000-0000-000000000042'"),
+                Arguments.of("RefreshTokenRepository.deleteExpired",
+                        "DELETE FROM refresh_tokens t WHERE t.expires_at < now()"),
+                Arguments.of("delete user (ON DELETE CASCADE lookup)",
+                        "SELECT 1 FROM refresh_tokens t WHERE t.user_id = 42"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void planUsesAnIndex(String method, String sql) throws SQLException {
+        String plan = explain(sql);
+        assertFalse(plan.contains("Seq Scan"), method + " falls back to a sequential scan:\n" + plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
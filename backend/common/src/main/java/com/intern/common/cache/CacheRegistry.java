@@ -0,0 +1,45 @@
+package com.intern.common.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the service's named caches and collects their metrics.
+ */
+@Component
+public class CacheRegistry {
+
+    private final SharedCacheTier sharedTier;
+    private final Map<String, ReadThroughCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public CacheRegistry(ObjectProvider<SharedCacheTier> sharedTier) {
+        this.sharedTier = sharedTier.getIfAvailable();
+    }
+
+    /**
+     * For values that are immutable already, such as strings or records of them.
+     */
+    public <K, V> ReadThroughCache<K, V> create(String name, int maxEntries, long ttlMs) {
+        return create(name, maxEntries, ttlMs, UnaryOperator.identity());
+    }
+
+    /**
+     * For mutable values; see {@link ReadThroughCache} for how the copier is used.
+     */
+    public <K, V> ReadThroughCache<K, V> create(String name, int maxEntries, long ttlMs, UnaryOperator<V> copier) {
+        ReadThroughCache<K, V> cache = new ReadThroughCache<>(name, maxEntries, ttlMs, sharedTier, copier);
+        caches.put(name, cache);
+        return cache;
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        caches.forEach((name, cache) -> metrics.put(name, cache.metrics()));
+        return metrics;
+    }
+}
@@ -0,0 +1,44 @@
+package com.intern.common.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for the shared tier, used by tests and single-node setups.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.shared.type", havingValue = "in-memory")
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, String key) {
+        String entryKey = cacheName + ':' + key;
+        Entry entry = entries.get(entryKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+            entries.remove(entryKey, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, long ttlMs) {
+        entries.put(cacheName + ':' + key, new Entry(value, System.currentTimeMillis() + ttlMs));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        entries.remove(cacheName + ':' + key);
+    }
+
+    private record Entry(Object value, long expiresAtMillis) {
+    }
+}
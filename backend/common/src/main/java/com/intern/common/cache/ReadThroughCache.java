@@ -0,0 +1,227 @@
+package com.intern.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Size and TTL bounded local cache, optionally backed by a {@link SharedCacheTier}.
+ * Reads go local, then shared, then to the loader; evictions hit both tiers.
+ * <p>
+ * Cached values are shared by every reader, so a value is passed through the cache's copier
+ * when it is stored and again when it is handed out; a caller can never change what the next
+ * reader sees. The copier should return an immutable value where it can (e.g. Map::copyOf),
+ * so that handing it out costs nothing. Without a copier, values must already be immutable.
+ * <p>
+ * A loaded value is only stored if the key was not evicted while the loader ran, since the
+ * loader may have read the row before the write that caused the eviction committed.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlMs;
+    private final SharedCacheTier sharedTier;
+    private final UnaryOperator<V> copier;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    // Key -> token of the load in flight for it; evicting the key drops the token
+    private final Map<K, Object> loading = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong sharedHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong sizeEvictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong discardedLoads = new AtomicLong();
+
+    ReadThroughCache(String name, int maxEntries, long ttlMs, SharedCacheTier sharedTier, UnaryOperator<V> copier) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.sharedTier = sharedTier;
+        this.copier = copier;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ReadThroughCache.this.maxEntries) {
+                    sizeEvictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        V value = getIfPresent(key);
+        if (value == null) {
+            Object token = beginLoad(key);
+            try {
+                value = loader.get();
+            } catch (RuntimeException e) {
+                endLoad(key, token);
+                throw e;
+            }
+            if (!endLoad(key, token)) {
+                // Evicted while loading; the value may predate the write, so it goes to this caller only
+                discardedLoads.incrementAndGet();
+            } else if (value != null) {
+                // The cache keeps its own copy, so the loaded value can go to the caller as is
+                store(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Looks the key up in both tiers without loading it; a null result counts as a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public V getIfPresent(K key) {
+        V value = getLocal(key);
+        if (value != null) {
+            localHits.incrementAndGet();
+            return copier.apply(value);
+        }
+
+        if (sharedTier != null) {
+            value = (V) sharedTier.get(name, String.valueOf(key));
+            if (value != null) {
+                sharedHits.incrementAndGet();
+                putLocal(key, value);
+                return copier.apply(value);
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(K key, V value) {
+        store(key, value);
+    }
+
+    /**
+     * Drops the key now and again once the surrounding transaction commits, so a concurrent
+     * read cannot re-cache the pre-commit value.
+     */
+    public void evict(K key) {
+        evictNow(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(key);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        long hits = localHits.get() + sharedHits.get();
+        long requests = hits + misses.get();
+
+        Map<String, Object> metrics = new HashMap<>();
+        lock.lock();
+        try {
+            metrics.put("size", entries.size());
+        } finally {
+            lock.unlock();
+        }
+        metrics.put("maxEntries", maxEntries);
+        metrics.put("localHits", localHits.get());
+        metrics.put("sharedHits", sharedHits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("hitRatio", requests > 0 ? (double) hits / requests : 0.0);
+        metrics.put("sizeEvictions", sizeEvictions.get());
+        metrics.put("expirations", expirations.get());
+        metrics.put("invalidations", invalidations.get());
+        metrics.put("discardedLoads", discardedLoads.get());
+        return metrics;
+    }
+
+    private void evictNow(K key) {
+        invalidations.incrementAndGet();
+        lock.lock();
+        try {
+            entries.remove(key);
+            loading.remove(key);
+        } finally {
+            lock.unlock();
+        }
+        if (sharedTier != null) {
+            sharedTier.evict(name, String.valueOf(key));
+        }
+    }
+
+    private Object beginLoad(K key) {
+        Object token = new Object();
+        lock.lock();
+        try {
+            // A later load of the same key takes over; the earlier one then stores nothing
+            loading.put(key, token);
+        } finally {
+            lock.unlock();
+        }
+        return token;
+    }
+
+    // True if the key was not evicted since beginLoad
+    private boolean endLoad(K key, Object token) {
+        lock.lock();
+        try {
+            return loading.remove(key, token);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private V store(K key, V value) {
+        V stored = copier.apply(value);
+        putLocal(key, stored);
+        if (sharedTier != null) {
+            sharedTier.put(name, String.valueOf(key), stored, ttlMs);
+        }
+        return stored;
+    }
+
+    private V getLocal(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+                entries.remove(key);
+                expirations.incrementAndGet();
+                return null;
+            }
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putLocal(K key, V value) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMs));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.intern.common.cache;
+
+/**
+ * Optional second cache tier shared between service instances (e.g. Redis).
+ * Values are handed over as-is; a networked implementation is responsible for serializing them.
+ * Implementations must be safe for concurrent use.
+ */
+public interface SharedCacheTier {
+
+    Object get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, long ttlMs);
+
+    void evict(String cacheName, String key);
+}
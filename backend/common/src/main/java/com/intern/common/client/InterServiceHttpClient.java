@@ -0,0 +1,206 @@
+package com.intern.common.client;
+
+import com.intern.common.security.InternalAuthFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Shared HTTP client for calls to the other services. All routes draw from one pool of
+ * keep-alive connections and ask for gzip-compressed responses; each route has its own
+ * response timeout and retry budget. Every call carries the internal service token.
+ */
+@Component
+public class InterServiceHttpClient {
+
+    @Value("${http.client.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${http.client.max-connections-per-host:50}")
+    private int maxConnectionsPerHost;
+
+    @Value("${http.client.connect-timeout-ms:300}")
+    private long connectTimeoutMs;
+
+    @Value("${http.client.pool-acquire-timeout-ms:200}")
+    private long poolAcquireTimeoutMs;
+
+    @Value("${http.client.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${http.client.retry.base-delay-ms:25}")
+    private long retryBaseDelayMs;
+
+    @Value("${http.client.retry.max-delay-ms:500}")
+    private long retryMaxDelayMs;
+
+    @Value("${internal.api.token:}")
+    private String internalToken;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        // Content compression is on by default: requests send Accept-Encoding and responses are inflated
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMs))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMs))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * Returns the named route, creating it on first use. Retries are only made for connection
+     * failures and 5xx responses, so only register idempotent calls with more than one attempt.
+     */
+    public Route route(String name, String baseUrl, long responseTimeoutMs, int maxAttempts) {
+        return routes.computeIfAbsent(name, key -> new Route(key, baseUrl, responseTimeoutMs, maxAttempts));
+    }
+
+    public Map<String, Object> metrics() {
+        PoolStats stats = connectionManager.getTotalStats();
+        Map<String, Object> pool = new HashMap<>();
+        pool.put("leased", stats.getLeased());
+        pool.put("available", stats.getAvailable());
+        pool.put("pending", stats.getPending());
+        pool.put("max", stats.getMax());
+        pool.put("utilization", stats.getMax() > 0 ? (double) stats.getLeased() / stats.getMax() : 0.0);
+
+        Map<String, Object> routeMetrics = new HashMap<>();
+        routes.forEach((name, route) -> routeMetrics.put(name, route.metrics()));
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("pool", pool);
+        metrics.put("routes", routeMetrics);
+        return metrics;
+    }
+
+    public final class Route {
+
+        private final String name;
+        private final String baseUrl;
+        private final int maxAttempts;
+        private final RestTemplate restTemplate;
+
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong totalLatencyMs = new AtomicLong();
+
+        private Route(String name, String baseUrl, long responseTimeoutMs, int maxAttempts) {
+            this.name = name;
+            this.baseUrl = baseUrl;
+            this.maxAttempts = Math.max(1, maxAttempts);
+
+            RequestConfig requestConfig = RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                    .build();
+            HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+            requestFactory.setHttpContextFactory((method, uri) -> {
+                HttpClientContext context = HttpClientContext.create();
+                context.setRequestConfig(requestConfig);
+                return context;
+            });
+            this.restTemplate = new RestTemplate(requestFactory);
+            restTemplate.getInterceptors().add((request, body, execution) -> {
+                request.getHeaders().set(InternalAuthFilter.TOKEN_HEADER, internalToken);
+                return execution.execute(request, body);
+            });
+        }
+
+        public <T> T get(String path, Class<T> responseType, Object... uriVariables) {
+            return execute(template -> template.getForObject(baseUrl + path, responseType, uriVariables));
+        }
+
+        public <T> T post(String path, Object body, Class<T> responseType) {
+            return execute(template -> template.postForObject(baseUrl + path, body, responseType));
+        }
+
+        private <T> T execute(Function<RestTemplate, T> call) {
+            long started = System.currentTimeMillis();
+            calls.incrementAndGet();
+            try {
+                for (int attempt = 1; ; attempt++) {
+                    try {
+                        return call.apply(restTemplate);
+                    } catch (ResourceAccessException | HttpServerErrorException e) {
+                        if (attempt >= maxAttempts) {
+                            failures.incrementAndGet();
+                            throw e;
+                        }
+                        retries.incrementAndGet();
+                        sleepBeforeRetry(attempt);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                        throw e;
+                    }
+                }
+            } finally {
+                totalLatencyMs.addAndGet(System.currentTimeMillis() - started);
+            }
+        }
+
+        // Full jitter: a random delay up to the exponential backoff, so retries of many callers spread out
+        private void sleepBeforeRetry(int attempt) {
+            long ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempt - 1, 16));
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ResourceAccessException("Interrupted before retrying " + name);
+            }
+        }
+
+        private Map<String, Object> metrics() {
+            long callCount = calls.get();
+            Map<String, Object> metrics = new HashMap<>();
+            metrics.put("calls", callCount);
+            metrics.put("failures", failures.get());
+            metrics.put("retries", retries.get());
+            metrics.put("averageLatencyMs", callCount > 0 ? (double) totalLatencyMs.get() / callCount : 0.0);
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.intern.common.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects Hikari pool saturation figures: how long requests wait for a connection, how long
+ * they hold it, and how often they give up waiting.
+ */
+@Component
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalUsageMillis = new AtomicLong();
+    private final AtomicLong maxUsageMillis = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong connectionsCreated = new AtomicLong();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                connectionsCreated.incrementAndGet();
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquisitions.incrementAndGet();
+                totalWaitNanos.addAndGet(elapsedAcquiredNanos);
+                maxWaitNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                totalUsageMillis.addAndGet(elapsedBorrowedMillis);
+                maxUsageMillis.accumulateAndGet(elapsedBorrowedMillis, Math::max);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.incrementAndGet();
+            }
+        };
+    }
+
+    public Map<String, Object> metrics() {
+        long acquired = acquisitions.get();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("pool", poolName);
+        PoolStats stats = poolStats;
+        if (stats != null) {
+            metrics.put("active", stats.getActiveConnections());
+            metrics.put("idle", stats.getIdleConnections());
+            metrics.put("total", stats.getTotalConnections());
+            metrics.put("max", stats.getMaxConnections());
+            metrics.put("waitingThreads", stats.getPendingThreads());
+        }
+        metrics.put("acquisitions", acquired);
+        metrics.put("averageWaitMs", acquired > 0 ? totalWaitNanos.get() / 1_000_000.0 / acquired : 0.0);
+        metrics.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+        metrics.put("averageUsageMs", acquired > 0 ? (double) totalUsageMillis.get() / acquired : 0.0);
+        metrics.put("maxUsageMs", maxUsageMillis.get());
+        metrics.put("timeouts", timeouts.get());
+        metrics.put("connectionsCreated", connectionsCreated.get());
+        return metrics;
+    }
+}
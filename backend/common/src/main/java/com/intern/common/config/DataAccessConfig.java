@@ -0,0 +1,48 @@
+package com.intern.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * Postgres driver and Hikari settings shared by the services. Pool sizes come from
+ * SPRING_DATASOURCE_HIKARI_* in docker-compose, where they are budgeted against the shared
+ * database's max_connections; this class adds statement caching, batch rewriting and the
+ * pool metrics tracker, leaving any value that is already configured untouched.
+ */
+@Configuration
+public class DataAccessConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariDataSourceCustomizer(
+            ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics,
+            @Value("${datasource.postgres.prepare-threshold:3}") String prepareThreshold,
+            @Value("${datasource.postgres.statement-cache-queries:256}") String statementCacheQueries,
+            @Value("${datasource.postgres.statement-cache-size-mib:5}") String statementCacheSizeMiB,
+            @Value("${datasource.postgres.rewrite-batched-inserts:true}") String rewriteBatchedInserts) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    Properties properties = dataSource.getDataSourceProperties();
+                    // Server-side prepared statements after N executions of the same SQL on a connection
+                    properties.putIfAbsent("prepareThreshold", prepareThreshold);
+                    properties.putIfAbsent("preparedStatementCacheQueries", statementCacheQueries);
+                    properties.putIfAbsent("preparedStatementCacheSizeMiB", statementCacheSizeMiB);
+                    // Collapses JDBC insert batches into multi-row INSERT statements
+                    properties.putIfAbsent("reWriteBatchedInserts", rewriteBatchedInserts);
+
+                    if (dataSource.getMetricsTrackerFactory() == null) {
+                        dataSource.setMetricsTrackerFactory(connectionPoolMetrics.getObject());
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.intern.common.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Guards the /internal endpoints (service-to-service calls and metrics) with a token shared by
+ * the services, sent in the {@link #TOKEN_HEADER} header. Without a configured token every
+ * internal request is refused, so a missing setting never leaves these endpoints open.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InternalAuthFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+    public static final String INTERNAL_PATH_PREFIX = "/internal/";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${internal.api.token:}")
+    private String internalToken;
+
+    @PostConstruct
+    void init() {
+        if (internalToken.isBlank()) {
+            log.warn("internal.api.token is not set; all /internal requests will be refused");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(INTERNAL_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(TOKEN_HEADER);
+        if (internalToken.isBlank() || presented == null || !matches(presented)) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Internal endpoint requires a service token");
+            response.getWriter().write(objectMapper.writeValueAsString(error));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    // Constant-time, so the token cannot be recovered from response timings
+    private boolean matches(String presented) {
+        return MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8),
+                internalToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
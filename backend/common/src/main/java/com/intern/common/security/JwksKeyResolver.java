@@ -0,0 +1,161 @@
+package com.intern.common.security;
+
+import com.intern.common.client.InterServiceHttpClient;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves token signing keys by "kid" from auth-service's JWKS, kept in memory. The set is
+ * fetched at startup and refreshed in the background, so verifying a token never waits on
+ * auth-service. A token with an unknown kid (auth-service rotated its key) triggers one
+ * immediate refetch, rate limited so forged kids cannot turn into a request flood.
+ * If auth-service is unreachable, the last fetched keys stay in use.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+
+    private static final String JWKS_PATH = "/.well-known/jwks.json";
+
+    private final InterServiceHttpClient httpClient;
+
+    @Value("${auth.service.url}")
+    private String authServiceUrl;
+
+    @Value("${jwt.jwks.min-refetch-interval-ms:10000}")
+    private long minRefetchIntervalMs;
+
+    private InterServiceHttpClient.Route route;
+    private volatile Map<String, PublicKey> keys = Map.of();
+    // Held across the JWKS request; a lock rather than synchronized, so that a virtual
+    // thread waiting here does not pin its carrier thread
+    private final ReentrantLock fetchLock = new ReentrantLock();
+    private long lastFetchAttemptMillis;
+    private volatile long lastSuccessMillis;
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong fetchFailures = new AtomicLong();
+    private final AtomicLong unknownKeyIds = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        route = httpClient.route("auth-jwks", authServiceUrl, 1000, 2);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        PublicKey key = keyId != null ? keys.get(keyId) : null;
+        if (key == null && keyId != null) {
+            unknownKeyIds.incrementAndGet();
+            refetch(false);
+            key = keys.get(keyId);
+        }
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + keyId);
+        }
+        return key;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.jwks.refresh-interval-ms:300000}",
+            initialDelayString = "${jwt.jwks.refresh-interval-ms:300000}")
+    public void refresh() {
+        refetch(true);
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("keys", keys.size());
+        metrics.put("fetches", fetches.get());
+        metrics.put("fetchFailures", fetchFailures.get());
+        metrics.put("unknownKeyIds", unknownKeyIds.get());
+        long lastSuccess = lastSuccessMillis;
+        metrics.put("lastSuccessAgeMs", lastSuccess > 0 ? System.currentTimeMillis() - lastSuccess : null);
+        return metrics;
+    }
+
+    private void refetch(boolean scheduled) {
+        fetchLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (!scheduled && now - lastFetchAttemptMillis < minRefetchIntervalMs) {
+                return;
+            }
+            lastFetchAttemptMillis = now;
+            fetches.incrementAndGet();
+            try {
+                Map<String, PublicKey> fetched = parse(route.get(JWKS_PATH, Map.class));
+                if (!fetched.isEmpty()) {
+                    keys = fetched;
+                    lastSuccessMillis = now;
+                }
+            } catch (RuntimeException e) {
+                fetchFailures.incrementAndGet();
+                log.warn("Could not fetch signing keys from auth-service, keeping {} known key(s): {}",
+                        keys.size(), e.getMessage());
+            }
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, PublicKey> parse(Map<String, Object> jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        if (jwks == null || !(jwks.get("keys") instanceof List<?> entries)) {
+            return parsed;
+        }
+        for (Object entry : entries) {
+            Map<String, Object> jwk = (Map<String, Object>) entry;
+            // Only ES256 keys are accepted, so a token can never be verified with another algorithm
+            if ("EC".equals(jwk.get("kty")) && "P-256".equals(jwk.get("crv")) && jwk.get("kid") != null) {
+                parsed.put((String) jwk.get("kid"), toPublicKey((String) jwk.get("x"), (String) jwk.get("y")));
+            }
+        }
+        return parsed;
+    }
+
+    private static PublicKey toPublicKey(String x, String y) {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            ECPoint point = new ECPoint(coordinate(x), coordinate(y));
+            return KeyFactory.getInstance("EC")
+                    .generatePublic(new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid signing key in JWKS", e);
+        }
+    }
+
+    private static BigInteger coordinate(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+}
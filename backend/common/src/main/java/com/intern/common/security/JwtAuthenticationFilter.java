@@ -0,0 +1,97 @@
+package com.intern.common.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifies the bearer token of every request once, before any handler, body binding
+ * or database work, and exposes the caller as the {@link #USER_ID_ATTRIBUTE} request
+ * attribute. Requests without a valid token are answered with 401 right here.
+ * Only CORS preflights and /internal calls, which {@link InternalAuthFilter} guards with
+ * the service token, are left to other checks; any new path is protected by default.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cors.allowed-origins}")
+    private String allowedOrigins;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || request.getRequestURI().startsWith(InternalAuthFilter.INTERNAL_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            reject(request, response, "Missing bearer token");
+            return;
+        }
+
+        Long userId;
+        try {
+            Claims claims = jwtUtil.extractClaims(header.substring(BEARER_PREFIX.length()));
+            userId = claims.get("userId", Long.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            reject(request, response, "Invalid or expired token");
+            return;
+        }
+        if (userId == null) {
+            reject(request, response, "Invalid or expired token");
+            return;
+        }
+
+        request.setAttribute(USER_ID_ATTRIBUTE, userId);
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String message)
+            throws IOException {
+        // Handler-level @CrossOrigin never runs for rejected requests, so the browser needs the header from here
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        if (origin != null && isAllowedOrigin(origin)) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+        }
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, String> error = new HashMap<>();
+        error.put("message", message);
+        response.getWriter().write(objectMapper.writeValueAsString(error));
+    }
+
+    private boolean isAllowedOrigin(String origin) {
+        return Arrays.stream(allowedOrigins.split(","))
+                .map(String::trim)
+                .anyMatch(allowed -> allowed.equals("*") || allowed.equals(origin));
+    }
+}
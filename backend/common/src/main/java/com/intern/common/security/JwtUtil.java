@@ -0,0 +1,54 @@
+package com.intern.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Verifies access tokens locally with auth-service's public keys; no secret is shared and
+ * no call to auth-service happens per request.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtUtil {
+
+    private final JwksKeyResolver keyResolver;
+
+    @Value("${jwt.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    private JwtParser parser;
+    private VerifiedClaimsCache claimsCache;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyResolver)
+                .build();
+        claimsCache = new VerifiedClaimsCache(cacheMaxEntries);
+    }
+
+    public Claims extractClaims(String token) {
+        String tokenHash = VerifiedClaimsCache.hash(token);
+        Claims claims = claimsCache.get(tokenHash);
+        if (claims == null) {
+            claims = parser.parseClaimsJws(token).getBody();
+            claimsCache.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    public Long extractUserId(String token) {
+        return extractClaims(token).get("userId", Long.class);
+    }
+
+    public Map<String, Object> cacheMetrics() {
+        return claimsCache.metrics();
+    }
+}
@@ -0,0 +1,111 @@
+package com.intern.common.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded LRU cache of already verified JWT claims, keyed by the SHA-256 hash of the token.
+ * Entries are dropped as soon as the token they belong to expires.
+ */
+public class VerifiedClaimsCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public VerifiedClaimsCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > VerifiedClaimsCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Claims get(String tokenHash) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(tokenHash);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+                entries.remove(tokenHash);
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.claims;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String tokenHash, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(tokenHash, new Entry(claims, claims.getExpiration().getTime()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(String tokenHash) {
+        lock.lock();
+        try {
+            entries.remove(tokenHash);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        lock.lock();
+        try {
+            metrics.put("size", entries.size());
+        } finally {
+            lock.unlock();
+        }
+        metrics.put("maxEntries", maxEntries);
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("evictions", evictions.get());
+        return metrics;
+    }
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+}
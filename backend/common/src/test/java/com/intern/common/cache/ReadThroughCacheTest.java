@@ -0,0 +1,184 @@
+package com.intern.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs two caches of the same name over one {@link InMemorySharedCacheTier}, standing in for
+ * two instances of a service sharing Redis.
+ */
+class ReadThroughCacheTest {
+
+    private static final long TTL_MS = 60_000;
+
+    private InMemorySharedCacheTier sharedTier;
+    private ReadThroughCache<Long, Map<String, Object>> instanceA;
+    private ReadThroughCache<Long, Map<String, Object>> instanceB;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        sharedTier = new InMemorySharedCacheTier();
+        instanceA = statsCache(sharedTier, 100, TTL_MS);
+        instanceB = statsCache(sharedTier, 100, TTL_MS);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void loadsOnceAndThenServesTheLocalTier() {
+        instanceA.get(1L, () -> load(3));
+        Map<String, Object> cached = instanceA.get(1L, () -> load(99));
+
+        assertEquals(3, cached.get("totalTasks"));
+        assertEquals(1, loads.get());
+        assertEquals(1L, instanceA.metrics().get("localHits"));
+        assertEquals(1L, instanceA.metrics().get("misses"));
+    }
+
+    @Test
+    void anotherInstanceIsServedByTheSharedTier() {
+        instanceA.get(1L, () -> load(3));
+        Map<String, Object> cached = instanceB.get(1L, () -> load(99));
+
+        assertEquals(3, cached.get("totalTasks"));
+        assertEquals(1, loads.get());
+        assertEquals(1L, instanceB.metrics().get("sharedHits"));
+    }
+
+    @Test
+    void evictionClearsTheSharedTier() {
+        instanceA.get(1L, () -> load(3));
+        instanceA.evict(1L);
+
+        assertNull(instanceA.getIfPresent(1L));
+        assertNull(instanceB.getIfPresent(1L));
+        assertEquals(5, instanceB.get(1L, () -> load(5)).get("totalTasks"));
+    }
+
+    @Test
+    void returnedValuesCannotBeChanged() {
+        instanceA.get(1L, () -> load(3));
+
+        Map<String, Object> local = instanceA.getIfPresent(1L);
+        Map<String, Object> shared = instanceB.getIfPresent(1L);
+
+        assertThrows(UnsupportedOperationException.class, () -> local.put("totalTasks", 0));
+        assertThrows(UnsupportedOperationException.class, () -> shared.put("totalTasks", 0));
+    }
+
+    @Test
+    void changingAValueAfterCachingItDoesNotReachOtherReaders() {
+        Map<String, Object> loaded = instanceA.get(1L, () -> load(3));
+        loaded.put("totalTasks", 0);
+
+        Map<String, Object> stored = load(4);
+        instanceA.put(2L, stored);
+        stored.put("totalTasks", 0);
+
+        assertEquals(3, instanceA.getIfPresent(1L).get("totalTasks"));
+        assertEquals(3, instanceB.getIfPresent(1L).get("totalTasks"));
+        assertEquals(4, instanceA.getIfPresent(2L).get("totalTasks"));
+        assertEquals(4, instanceB.getIfPresent(2L).get("totalTasks"));
+    }
+
+    @Test
+    void mutableValuesAreCopiedForEveryReader() {
+        ReadThroughCache<String, List<StringBuilder>> cache = new ReadThroughCache<>("pages", 100, TTL_MS,
+                sharedTier, page -> page.stream().map(item -> new StringBuilder(item)).toList());
+        cache.put("page", new ArrayList<>(List.of(new StringBuilder("first"))));
+
+        cache.getIfPresent("page").get(0).append(" changed");
+
+        assertEquals("first", cache.getIfPresent("page").get(0).toString());
+    }
+
+    @Test
+    void expiredEntriesAreLoadedAgain() {
+        ReadThroughCache<Long, Map<String, Object>> expiring = statsCache(null, 100, 0);
+        expiring.get(1L, () -> load(3));
+
+        assertEquals(5, expiring.get(1L, () -> load(5)).get("totalTasks"));
+        assertEquals(2, loads.get());
+        assertEquals(1L, expiring.metrics().get("expirations"));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtCapacity() {
+        ReadThroughCache<Long, Map<String, Object>> small = statsCache(null, 2, TTL_MS);
+        small.put(1L, load(1));
+        small.put(2L, load(2));
+        small.getIfPresent(1L);
+        small.put(3L, load(3));
+
+        assertNull(small.getIfPresent(2L));
+        assertEquals(1, small.getIfPresent(1L).get("totalTasks"));
+        assertEquals(1L, small.metrics().get("sizeEvictions"));
+    }
+
+    @Test
+    void loadRacingAWriteDoesNotCacheTheOldValue() throws Exception {
+        AtomicInteger storedTotal = new AtomicInteger(3);
+        CountDownLatch loaderRead = new CountDownLatch(1);
+        CountDownLatch writeCommitted = new CountDownLatch(1);
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            // The reader loads the old row, then the write commits and evicts before the reader stores
+            Future<Map<String, Object>> read = reader.submit(() -> instanceA.get(1L, () -> {
+                Map<String, Object> stats = load(storedTotal.get());
+                loaderRead.countDown();
+                await(writeCommitted);
+                return stats;
+            }));
+            assertTrue(loaderRead.await(5, TimeUnit.SECONDS));
+            storedTotal.set(4);
+            instanceA.evict(1L);
+            writeCommitted.countDown();
+
+            assertEquals(3, read.get(5, TimeUnit.SECONDS).get("totalTasks"));
+        } finally {
+            reader.shutdownNow();
+        }
+
+        assertNull(instanceA.getIfPresent(1L));
+        assertNull(instanceB.getIfPresent(1L));
+        assertEquals(4, instanceA.get(1L, () -> load(storedTotal.get())).get("totalTasks"));
+        assertEquals(1L, instanceA.metrics().get("discardedLoads"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ReadThroughCache<Long, Map<String, Object>> statsCache(SharedCacheTier tier, int maxEntries,
+                                                                         long ttlMs) {
+        return new ReadThroughCache<>("projectStats", maxEntries, ttlMs, tier, Map::copyOf);
+    }
+
+    private Map<String, Object> load(int totalTasks) {
+        loads.incrementAndGet();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalTasks", totalTasks);
+        return stats;
+    }
+}
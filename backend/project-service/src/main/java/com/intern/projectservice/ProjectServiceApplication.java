@@ -2,8 +2,11 @@ package com.intern.projectservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// Shared infrastructure (HTTP client, caches, token verification, pool metrics) lives in the common module
+@SpringBootApplication(scanBasePackages = {"com.intern.projectservice", "com.intern.common"})
+@EnableScheduling
 public class ProjectServiceApplication {
 
     public static void main(String[] args) {
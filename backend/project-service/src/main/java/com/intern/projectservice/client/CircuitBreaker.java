@@ -0,0 +1,136 @@
+package com.intern.projectservice.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker. It opens when the failure rate over the last {@code windowSize}
+ * calls reaches the threshold; slow calls count as failures. After {@code openMs} a single
+ * probe is let through, and its outcome closes or re-opens the circuit.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public enum Permission { PERMITTED, PROBE, REJECTED }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallMs;
+    private final long openMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] outcomes;
+    private int recorded;
+    private int position;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timesOpened = new AtomicLong();
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          long slowCallMs, long openMs) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallMs = slowCallMs;
+        this.openMs = openMs;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    public Permission acquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.CLOSED) {
+                return Permission.PERMITTED;
+            }
+            if (state == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openMs) {
+                state = State.HALF_OPEN;
+                return Permission.PROBE;
+            }
+            rejected.incrementAndGet();
+            return Permission.REJECTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onResult(boolean success, long durationMs) {
+        boolean failed = !success || durationMs >= slowCallMs;
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (failed) {
+                    open();
+                } else {
+                    state = State.CLOSED;
+                    resetWindow();
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+
+            if (recorded == windowSize && outcomes[position]) {
+                failures--;
+            }
+            outcomes[position] = failed;
+            position = (position + 1) % windowSize;
+            recorded = Math.min(recorded + 1, windowSize);
+            if (failed) {
+                failures++;
+            }
+
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        lock.lock();
+        try {
+            metrics.put("state", state.name());
+            metrics.put("failureRate", recorded > 0 ? (double) failures / recorded : 0.0);
+        } finally {
+            lock.unlock();
+        }
+        metrics.put("name", name);
+        metrics.put("rejected", rejected.get());
+        metrics.put("timesOpened", timesOpened.get());
+        return metrics;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtMillis = System.currentTimeMillis();
+        timesOpened.incrementAndGet();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        position = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.intern.projectservice.client;
+
+import com.intern.common.client.InterServiceHttpClient;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tells task-service to remove the tasks of deleted projects. The call is made after the
+ * deletion commits and only enqueues a background job there; projects whose notification
+ * failed are kept and re-sent in batches until task-service accepts them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectDeletionNotifier {
+
+    private static final String DELETIONS_PATH = "/internal/tasks/project-deletions";
+
+    private final InterServiceHttpClient httpClient;
+
+    @Value("${task.service.url}")
+    private String taskServiceUrl;
+
+    @Value("${task.deletions.max-batch:500}")
+    private int maxBatch;
+
+    private InterServiceHttpClient.Route route;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        // Enqueueing is idempotent on the task-service side, so retrying is safe
+        route = httpClient.route("task-deletions", taskServiceUrl, 2000, 3);
+    }
+
+    public void projectDeleted(Long projectId) {
+        pending.add(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    flush();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        pending.remove(projectId);
+                    }
+                }
+            });
+        } else {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.deletions.retry-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> batch = new ArrayList<>(pending);
+        if (batch.size() > maxBatch) {
+            batch = batch.subList(0, maxBatch);
+        }
+        try {
+            route.post(DELETIONS_PATH, batch, Map.class);
+            batch.forEach(pending::remove);
+        } catch (Exception e) {
+            log.warn("Could not schedule task deletion for {} project(s), will retry: {}",
+                    batch.size(), e.getMessage());
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("pendingNotifications", pending.size());
+        return metrics;
+    }
+}
@@ -0,0 +1,91 @@
+package com.intern.projectservice.client;
+
+import com.intern.common.client.InterServiceHttpClient;
+import com.intern.projectservice.repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Backfills task counters for projects that have never received a task-service snapshot,
+ * typically ones created before counters were kept here. Their ids are sent to task-service,
+ * which publishes a STATS_RECONCILED event for each through the outbox. Once every project
+ * has a snapshot, project reads no longer call task-service for stats.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsBackfill {
+
+    private static final String SNAPSHOTS_PATH = "/internal/tasks/stats-snapshots";
+
+    private final ProjectRepository projectRepository;
+    private final InterServiceHttpClient httpClient;
+
+    @Value("${task.service.url}")
+    private String taskServiceUrl;
+
+    @Value("${task.stats.backfill.batch-size:500}")
+    private int batchSize;
+
+    private InterServiceHttpClient.Route route;
+    private final AtomicLong requested = new AtomicLong();
+    private volatile long remaining = -1;
+
+    @PostConstruct
+    void init() {
+        // Publishing a snapshot twice is harmless, so retrying is safe
+        route = httpClient.route("task-stats-backfill", taskServiceUrl, 5000, 3);
+    }
+
+    /**
+     * One pass over the projects still without a snapshot. Runs at startup and again on an
+     * interval, since the snapshots arrive asynchronously and a pass can fail part way; it is
+     * a single index lookup once nothing is left.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${task.stats.backfill.interval-ms:600000}",
+            initialDelayString = "${task.stats.backfill.interval-ms:600000}")
+    public void backfill() {
+        long afterId = 0;
+        long found = 0;
+        try {
+            List<Long> batch;
+            do {
+                batch = projectRepository.findIdsWithoutStats(afterId, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                route.post(SNAPSHOTS_PATH, batch, Map.class);
+                requested.addAndGet(batch.size());
+                found += batch.size();
+                afterId = batch.get(batch.size() - 1);
+            } while (batch.size() == batchSize);
+            remaining = found;
+            if (found > 0) {
+                log.info("Requested task stats snapshots for {} project(s)", found);
+            }
+        } catch (Exception e) {
+            log.warn("Task stats backfill stopped after {} project(s), will retry: {}", found, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("requested", requested.get());
+        // Projects without a snapshot at the last complete pass; -1 until one has completed
+        metrics.put("lastPassPending", remaining);
+        return metrics;
+    }
+}
@@ -0,0 +1,318 @@
+package com.intern.projectservice.client;
+
+import com.intern.common.client.InterServiceHttpClient;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fetches task statistics from task-service with bounded latency.
+ * Project ids are split into chunks that are requested concurrently; chunks that miss
+ * their per-call or the overall deadline are simply left out of the result so callers
+ * can render the project without stats instead of waiting on task-service.
+ * <p>
+ * Calls go through a circuit breaker and a bulkhead. When either refuses a call, the last
+ * stats seen for each project are served from a local stale cache, marked with their age
+ * ({@link #STATS_AGE_KEY}), and a single background call probes whether task-service recovered.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskStatsClient {
+
+    private static final String TASK_STATS_BATCH_PATH = "/internal/tasks/stats";
+    public static final String STATS_AGE_KEY = "statsAgeMs";
+
+    private final InterServiceHttpClient httpClient;
+
+    @Value("${task.service.url}")
+    private String taskServiceUrl;
+
+    @Value("${task.stats.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${task.stats.call-timeout-ms:800}")
+    private int callTimeoutMs;
+
+    @Value("${task.stats.max-attempts:2}")
+    private int maxAttempts;
+
+    @Value("${task.stats.overall-timeout-ms:1200}")
+    private long overallTimeoutMs;
+
+    @Value("${task.stats.threads:16}")
+    private int threads;
+
+    @Value("${task.stats.bulkhead.max-concurrent:32}")
+    private int bulkheadMaxConcurrent;
+
+    @Value("${task.stats.breaker.window-size:20}")
+    private int breakerWindowSize;
+
+    @Value("${task.stats.breaker.minimum-calls:10}")
+    private int breakerMinimumCalls;
+
+    @Value("${task.stats.breaker.failure-rate:0.5}")
+    private double breakerFailureRate;
+
+    @Value("${task.stats.breaker.slow-call-ms:1000}")
+    private long breakerSlowCallMs;
+
+    @Value("${task.stats.breaker.open-ms:5000}")
+    private long breakerOpenMs;
+
+    @Value("${task.stats.stale-cache.max-entries:100000}")
+    private int staleCacheMaxEntries;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${task.stats.virtual.max-in-flight:256}")
+    private int maxInFlight;
+
+    private InterServiceHttpClient.Route route;
+    private Executor executor;
+    private ExecutorService platformExecutor;
+    private CircuitBreaker circuitBreaker;
+    private Semaphore bulkhead;
+    private LinkedHashMap<Long, StaleEntry> staleStats;
+    private final ReentrantLock staleLock = new ReentrantLock();
+    private final AtomicLong bulkheadRejected = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        route = httpClient.route("task-stats", taskServiceUrl, callTimeoutMs, maxAttempts);
+        circuitBreaker = new CircuitBreaker("task-stats", breakerWindowSize, breakerMinimumCalls,
+                breakerFailureRate, breakerSlowCallMs, breakerOpenMs);
+        bulkhead = new Semaphore(bulkheadMaxConcurrent);
+        staleStats = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, StaleEntry> eldest) {
+                return size() > staleCacheMaxEntries;
+            }
+        };
+
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            executor = virtualThreadExecutor();
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        platformExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-stats-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor = platformExecutor;
+    }
+
+    /**
+     * One virtual thread per chunk call. There is no pool to size, so the number of calls in
+     * flight is capped instead; beyond the cap chunks are skipped, as with a full platform pool.
+     */
+    private Executor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("task-stats-");
+        virtualExecutor.setVirtualThreads(true);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        return task -> {
+            if (!inFlight.tryAcquire()) {
+                throw new RejectedExecutionException("Too many task stats calls in flight");
+            }
+            virtualExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (platformExecutor != null) {
+            platformExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the stats of every project task-service answered for within the deadlines, or
+     * the last known stats (carrying {@link #STATS_AGE_KEY}) while task-service is failing.
+     * Projects missing from the returned map have no stats available.
+     */
+    public Map<Long, Map<String, Object>> fetchStats(Collection<Long> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        CircuitBreaker.Permission permission = circuitBreaker.acquirePermission();
+        if (permission == CircuitBreaker.Permission.REJECTED) {
+            return staleStats(projectIds);
+        }
+        if (permission == CircuitBreaker.Permission.PROBE) {
+            refreshInBackground(projectIds);
+            return staleStats(projectIds);
+        }
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejected.incrementAndGet();
+            return staleStats(projectIds);
+        }
+
+        try {
+            Map<Long, Map<String, Object>> statsByProject = fetchAndRecord(projectIds);
+            // Fill whatever missed the deadline with the last known values
+            if (statsByProject.size() < projectIds.size()) {
+                staleStats(projectIds).forEach(statsByProject::putIfAbsent);
+            }
+            return statsByProject;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("circuitBreaker", circuitBreaker.metrics());
+        metrics.put("bulkheadAvailable", bulkhead.availablePermits());
+        metrics.put("bulkheadRejected", bulkheadRejected.get());
+        metrics.put("staleServed", staleServed.get());
+        staleLock.lock();
+        try {
+            metrics.put("staleCacheSize", staleStats.size());
+        } finally {
+            staleLock.unlock();
+        }
+        return metrics;
+    }
+
+    private void refreshInBackground(Collection<Long> projectIds) {
+        List<Long> ids = new ArrayList<>(projectIds);
+        try {
+            CompletableFuture.runAsync(() -> fetchAndRecord(ids), executor);
+        } catch (RejectedExecutionException e) {
+            // Count the probe as failed so the circuit opens again and a later request retries it
+            circuitBreaker.onResult(false, 0);
+        }
+    }
+
+    private Map<Long, Map<String, Object>> fetchAndRecord(Collection<Long> projectIds) {
+        long started = System.currentTimeMillis();
+        Map<Long, Map<String, Object>> statsByProject = fetchLive(projectIds);
+        circuitBreaker.onResult(statsByProject.size() >= new LinkedHashSet<>(projectIds).size(),
+                System.currentTimeMillis() - started);
+        remember(statsByProject);
+        return statsByProject;
+    }
+
+    private void remember(Map<Long, Map<String, Object>> statsByProject) {
+        long now = System.currentTimeMillis();
+        staleLock.lock();
+        try {
+            statsByProject.forEach((projectId, stats) -> staleStats.put(projectId, new StaleEntry(stats, now)));
+        } finally {
+            staleLock.unlock();
+        }
+    }
+
+    private Map<Long, Map<String, Object>> staleStats(Collection<Long> projectIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, Map<String, Object>> statsByProject = new HashMap<>();
+        staleLock.lock();
+        try {
+            for (Long projectId : projectIds) {
+                StaleEntry entry = staleStats.get(projectId);
+                if (entry != null) {
+                    Map<String, Object> stats = new HashMap<>(entry.stats);
+                    stats.put(STATS_AGE_KEY, now - entry.fetchedAtMillis);
+                    statsByProject.put(projectId, stats);
+                }
+            }
+        } finally {
+            staleLock.unlock();
+        }
+        staleServed.addAndGet(statsByProject.size());
+        return statsByProject;
+    }
+
+    private Map<Long, Map<String, Object>> fetchLive(Collection<Long> projectIds) {
+        Map<Long, Map<String, Object>> statsByProject = new HashMap<>();
+
+        List<CompletableFuture<Map<Long, Map<String, Object>>>> calls = new ArrayList<>();
+        for (List<Long> chunk : partition(projectIds)) {
+            try {
+                calls.add(CompletableFuture.supplyAsync(() -> fetchChunk(chunk), executor)
+                        .completeOnTimeout(Map.of(), callTimeoutMs, TimeUnit.MILLISECONDS)
+                        .exceptionally(e -> Map.of()));
+            } catch (RejectedExecutionException e) {
+                // Saturated: skip this chunk rather than queueing behind other requests
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]))
+                    .get(overallTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Keep whatever chunks completed in time
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (CompletableFuture<Map<Long, Map<String, Object>>> call : calls) {
+            Map<Long, Map<String, Object>> chunkStats = call.getNow(null);
+            if (chunkStats != null) {
+                statsByProject.putAll(chunkStats);
+            }
+        }
+
+        return statsByProject;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Map<String, Object>> fetchChunk(List<Long> projectIds) {
+        Map<String, Map<String, Object>> response = route.post(TASK_STATS_BATCH_PATH, projectIds, Map.class);
+
+        Map<Long, Map<String, Object>> statsByProject = new HashMap<>();
+        if (response != null) {
+            response.forEach((projectId, stats) -> statsByProject.put(Long.valueOf(projectId), stats));
+        }
+        return statsByProject;
+    }
+
+    private record StaleEntry(Map<String, Object> stats, long fetchedAtMillis) {
+    }
+
+    private List<List<Long>> partition(Collection<Long> projectIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(projectIds));
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            chunks.add(ids.subList(start, Math.min(start + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,45 @@
+package com.intern.projectservice.controller;
+
+import com.intern.projectservice.dto.TaskChangeEvent;
+import com.intern.projectservice.service.ProjectService;
+import com.intern.projectservice.service.TaskEventConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/projects")
+@RequiredArgsConstructor
+public class InternalProjectController {
+
+    private final ProjectService projectService;
+    private final TaskEventConsumer taskEventConsumer;
+
+    @GetMapping("/owners")
+    public ResponseEntity<?> getOwners(@RequestParam List<Long> ids) {
+        try {
+            Map<Long, Long> owners = projectService.getOwners(ids);
+            return ResponseEntity.ok(owners);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @PostMapping("/task-events")
+    public ResponseEntity<?> consumeTaskEvents(@RequestBody List<TaskChangeEvent> events) {
+        try {
+            return ResponseEntity.ok(taskEventConsumer.consume(events));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.intern.projectservice.controller;
+
+import com.intern.common.cache.CacheRegistry;
+import com.intern.common.client.InterServiceHttpClient;
+import com.intern.common.config.ConnectionPoolMetrics;
+import com.intern.common.security.JwksKeyResolver;
+import com.intern.common.security.JwtUtil;
+import com.intern.projectservice.client.ProjectDeletionNotifier;
+import com.intern.projectservice.client.TaskStatsBackfill;
+import com.intern.projectservice.client.TaskStatsClient;
+import com.intern.projectservice.service.ProjectOwnershipIndex;
+import com.intern.projectservice.service.TaskEventConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final JwtUtil jwtUtil;
+    private final JwksKeyResolver jwksKeyResolver;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final CacheRegistry cacheRegistry;
+    private final TaskEventConsumer taskEventConsumer;
+    private final ProjectDeletionNotifier deletionNotifier;
+    private final InterServiceHttpClient httpClient;
+    private final TaskStatsClient taskStatsClient;
+    private final ProjectOwnershipIndex ownershipIndex;
+    private final TaskStatsBackfill taskStatsBackfill;
+
+    @GetMapping
+    public ResponseEntity<?> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("jwtClaimsCache", jwtUtil.cacheMetrics());
+        metrics.put("jwks", jwksKeyResolver.metrics());
+        metrics.put("connectionPool", connectionPoolMetrics.metrics());
+        metrics.put("caches", cacheRegistry.metrics());
+        metrics.put("taskEvents", taskEventConsumer.metrics());
+        metrics.put("projectDeletions", deletionNotifier.metrics());
+        metrics.put("httpClient", httpClient.metrics());
+        metrics.put("taskStats", taskStatsClient.metrics());
+        metrics.put("projectOwnershipIndex", ownershipIndex.metrics());
+        metrics.put("taskStatsBackfill", taskStatsBackfill.metrics());
+        return ResponseEntity.ok(metrics);
+    }
+}
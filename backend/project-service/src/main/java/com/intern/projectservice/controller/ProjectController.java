@@ -1,9 +1,10 @@
 package com.intern.projectservice.controller;
 
 
+import com.intern.common.security.JwtAuthenticationFilter;
+import com.intern.projectservice.dto.ProjectPage;
 import com.intern.projectservice.dto.ProjectRequest;
 import com.intern.projectservice.dto.ProjectResponse;
-import com.intern.projectservice.security.JwtUtil;
 import com.intern.projectservice.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,23 +19,23 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "${cors.allowed-origins}")
+@CrossOrigin(origins = "${cors.allowed-origins}", exposedHeaders = "X-Next-Cursor")
 public class ProjectController {
 
-    private final ProjectService projectService;
-    private final JwtUtil jwtUtil;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_PAGE_SIZE = 200;
 
-    private Long extractUserId(String authHeader) {
-        String token = authHeader.replace("Bearer ", "");
-        return jwtUtil.extractUserId(token);
+    private final ProjectService projectService;
+    private boolean isSummary(String view) {
+        return "summary".equalsIgnoreCase(view);
     }
 
     @PostMapping
     public ResponseEntity<?> createProject(
             @Valid @RequestBody ProjectRequest request,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            Long userId = extractUserId(authHeader);
             ProjectResponse response = projectService.createProject(request, userId);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (Exception e) {
@@ -45,10 +46,11 @@ public class ProjectController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllProjects(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> getAllProjects(
+            @RequestParam(defaultValue = "full") String view,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            Long userId = extractUserId(authHeader);
-            List<ProjectResponse> projects = projectService.getAllProjects(userId);
+            List<ProjectResponse> projects = projectService.getAllProjects(userId, isSummary(view));
             return ResponseEntity.ok(projects);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -60,9 +62,8 @@ public class ProjectController {
     @GetMapping("/{id}")
     public ResponseEntity<?> getProjectById(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            Long userId = extractUserId(authHeader);
             ProjectResponse project = projectService.getProjectById(id, userId);
             return ResponseEntity.ok(project);
         } catch (Exception e) {
@@ -76,9 +77,8 @@ public class ProjectController {
     public ResponseEntity<?> updateProject(
             @PathVariable Long id,
             @Valid @RequestBody ProjectRequest request,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            Long userId = extractUserId(authHeader);
             ProjectResponse response = projectService.updateProject(id, request, userId);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -91,9 +91,8 @@ public class ProjectController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteProject(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            Long userId = extractUserId(authHeader);
             projectService.deleteProject(id, userId);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Project deleted successfully");
@@ -108,11 +107,19 @@ public class ProjectController {
     @GetMapping("/search")
     public ResponseEntity<?> searchProjects(
             @RequestParam String query,
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            Long userId = extractUserId(authHeader);
-            List<ProjectResponse> projects = projectService.searchProjects(userId, query);
-            return ResponseEntity.ok(projects);
+            int pageSize = Math.max(1, Math.min(limit, MAX_SEARCH_PAGE_SIZE));
+            ProjectPage page = projectService.searchProjects(userId, query, cursor, pageSize, isSummary(view));
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+            }
+            return response.body(page.getProjects());
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", e.getMessage());
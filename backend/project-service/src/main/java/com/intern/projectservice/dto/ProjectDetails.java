@@ -0,0 +1,8 @@
+package com.intern.projectservice.dto;
+
+/**
+ * Read-only projection of a project including its description.
+ */
+public interface ProjectDetails extends ProjectSummary {
+    String getDescription();
+}
@@ -0,0 +1,15 @@
+package com.intern.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectPage {
+    private List<ProjectResponse> projects;
+    private Long nextCursor;
+}
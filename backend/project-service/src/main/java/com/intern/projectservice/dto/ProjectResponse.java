@@ -19,4 +19,7 @@ public class ProjectResponse {
     private Integer totalTasks;
     private Integer completedTasks;
     private Double progressPercentage;
+    private StatsStatus statsStatus;
+    // Age of the stats in milliseconds when statsStatus is STALE
+    private Long statsAgeMs;
 }
@@ -0,0 +1,17 @@
+package com.intern.projectservice.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a project without its description, used by list views.
+ */
+public interface ProjectSummary {
+    Long getId();
+    String getTitle();
+    Long getUserId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Integer getTotalTasks();
+    Integer getCompletedTasks();
+    Long getStatsVersion();
+}
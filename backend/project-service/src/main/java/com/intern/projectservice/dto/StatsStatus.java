@@ -0,0 +1,7 @@
+package com.intern.projectservice.dto;
+
+public enum StatsStatus {
+    AVAILABLE,
+    STALE,
+    UNAVAILABLE
+}
@@ -26,6 +26,17 @@ public class Project {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
+    // Task counters maintained from task-service change events; never written by entity updates
+    @Column(name = "total_tasks", updatable = false)
+    private Integer totalTasks;
+
+    @Column(name = "completed_tasks", updatable = false)
+    private Integer completedTasks;
+
+    // Version of the last applied task-service snapshot; null until the project has been synced
+    @Column(name = "stats_version", updatable = false)
+    private Long statsVersion;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
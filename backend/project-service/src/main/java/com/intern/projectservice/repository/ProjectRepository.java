@@ -1,13 +1,66 @@
 package com.intern.projectservice.repository;
 
+import com.intern.projectservice.dto.ProjectDetails;
+import com.intern.projectservice.dto.ProjectSummary;
 import com.intern.projectservice.model.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByUserId(Long userId);
-    List<Project> findByUserIdAndTitleContainingIgnoreCase(Long userId, String title);
+    String SUMMARY_COLUMNS = "p.id AS id, p.title AS title, p.user_id AS \"userId\", " +
+            "p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\", " +
+            "p.total_tasks AS \"totalTasks\", p.completed_tasks AS \"completedTasks\", " +
+            "p.stats_version AS \"statsVersion\"";
+    String SEARCH = " FROM projects p WHERE p.user_id = :userId " +
+            "AND p.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "ORDER BY ts_rank(p.search_vector, to_tsquery('simple', :tsQuery)) DESC, p.id " +
+            "LIMIT :limit OFFSET :offset";
+
+    <T> Optional<T> findProjectedById(Long id, Class<T> type);
+    <T> List<T> findByUserId(Long userId, Class<T> type);
+
+    @Query("SELECT p.userId FROM Project p WHERE p.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    @Query("SELECT p.id, p.userId FROM Project p WHERE p.id IN :ids")
+    List<Object[]> findOwnersByIds(@Param("ids") Collection<Long> ids);
+
+    // Keyset pages of projects that have never received a task-service counters snapshot
+    @Query("SELECT p.id FROM Project p WHERE p.statsVersion IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsWithoutStats(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int deleteProjectById(@Param("id") Long id);
+
+    /**
+     * Stores a task-service counters snapshot unless a newer one has already been applied,
+     * which makes redelivered and reordered events harmless.
+     */
+    @Modifying
+    @Query(value = "UPDATE projects SET total_tasks = :totalTasks, completed_tasks = :completedTasks, " +
+            "stats_version = :statsVersion " +
+            "WHERE id = :projectId AND COALESCE(stats_version, -1) < :statsVersion",
+            nativeQuery = true)
+    int applyTaskStats(@Param("projectId") Long projectId,
+                       @Param("totalTasks") long totalTasks,
+                       @Param("completedTasks") long completedTasks,
+                       @Param("statsVersion") long statsVersion);
+
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + SEARCH, nativeQuery = true)
+    List<ProjectSummary> searchSummaries(@Param("userId") Long userId, @Param("tsQuery") String tsQuery,
+                                         @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + ", p.description AS description" + SEARCH, nativeQuery = true)
+    List<ProjectDetails> searchDetails(@Param("userId") Long userId, @Param("tsQuery") String tsQuery,
+                                       @Param("limit") int limit, @Param("offset") long offset);
 }
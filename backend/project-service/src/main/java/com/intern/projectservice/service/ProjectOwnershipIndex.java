@@ -0,0 +1,140 @@
+package com.intern.projectservice.service;
+
+import com.intern.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Compact project id to owner id index. A project's owner never changes, so entries only
+ * need to be dropped when the project is deleted; misses are filled from a single-column query.
+ * At capacity the least recently used entry makes room, so the hot set survives.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectOwnershipIndex {
+
+    private final ProjectRepository projectRepository;
+
+    @Value("${projects.ownership-index.max-entries:200000}")
+    private int maxEntries;
+
+    private final LinkedHashMap<Long, Long> ownerByProject = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            if (size() > maxEntries) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Returns the owner of the project, or null when the project does not exist.
+     */
+    public Long ownerOf(Long projectId) {
+        Long ownerId = lookup(projectId);
+        if (ownerId != null) {
+            hits.incrementAndGet();
+            return ownerId;
+        }
+
+        misses.incrementAndGet();
+        ownerId = projectRepository.findUserIdById(projectId).orElse(null);
+        if (ownerId != null) {
+            remember(projectId, ownerId);
+        }
+        return ownerId;
+    }
+
+    public Map<Long, Long> ownersOf(Collection<Long> projectIds) {
+        Map<Long, Long> owners = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Long projectId : projectIds) {
+                Long ownerId = ownerByProject.get(projectId);
+                if (ownerId != null) {
+                    hits.incrementAndGet();
+                    owners.put(projectId, ownerId);
+                } else {
+                    missing.add(projectId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!missing.isEmpty()) {
+            misses.addAndGet(missing.size());
+            for (Object[] row : projectRepository.findOwnersByIds(missing)) {
+                Long projectId = (Long) row[0];
+                Long ownerId = (Long) row[1];
+                remember(projectId, ownerId);
+                owners.put(projectId, ownerId);
+            }
+        }
+        return owners;
+    }
+
+    public boolean isOwner(Long projectId, Long userId) {
+        Long ownerId = ownerOf(projectId);
+        return ownerId != null && ownerId.equals(userId);
+    }
+
+    public void remember(Long projectId, Long ownerId) {
+        lock.lock();
+        try {
+            ownerByProject.put(projectId, ownerId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void forget(Long projectId) {
+        lock.lock();
+        try {
+            ownerByProject.remove(projectId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        lock.lock();
+        try {
+            metrics.put("size", ownerByProject.size());
+        } finally {
+            lock.unlock();
+        }
+        metrics.put("maxEntries", maxEntries);
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("evictions", evictions.get());
+        return metrics;
+    }
+
+    private Long lookup(Long projectId) {
+        lock.lock();
+        try {
+            return ownerByProject.get(projectId);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
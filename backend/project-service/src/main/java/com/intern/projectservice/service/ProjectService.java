@@ -1,14 +1,26 @@
 package com.intern.projectservice.service;
 
+import com.intern.common.cache.CacheRegistry;
+import com.intern.common.cache.ReadThroughCache;
+import com.intern.projectservice.client.ProjectDeletionNotifier;
+import com.intern.projectservice.client.TaskStatsClient;
+import com.intern.projectservice.dto.ProjectDetails;
+import com.intern.projectservice.dto.ProjectPage;
 import com.intern.projectservice.dto.ProjectRequest;
 import com.intern.projectservice.dto.ProjectResponse;
+import com.intern.projectservice.dto.ProjectSummary;
+import com.intern.projectservice.dto.StatsStatus;
 import com.intern.projectservice.model.Project;
 import com.intern.projectservice.repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -18,75 +30,195 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final TaskStatsClient taskStatsClient;
+    private final ProjectDeletionNotifier deletionNotifier;
+    private final ProjectOwnershipIndex ownershipIndex;
+    private final CacheRegistry cacheRegistry;
+
+    @Value("${cache.projects-by-user.max-entries:10000}")
+    private int projectsCacheMaxEntries;
+
+    @Value("${cache.projects-by-user.ttl-ms:60000}")
+    private long projectsCacheTtlMs;
+
+    // Project rows per "userId:view"; task stats are applied on every read, never cached here
+    private ReadThroughCache<String, List<ProjectRow>> projectsByUserCache;
 
     @Value("${auth.service.url}")
     private String authServiceUrl;
 
+    @PostConstruct
+    void initCaches() {
+        projectsByUserCache = cacheRegistry.create("projectsByUser", projectsCacheMaxEntries, projectsCacheTtlMs);
+    }
+
     public ProjectResponse createProject(ProjectRequest request, Long userId) {
         Project project = new Project();
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
         project.setUserId(userId);
+        // A new project has no tasks yet; task-service events take it from here
+        project.setTotalTasks(0);
+        project.setCompletedTasks(0);
+        project.setStatsVersion(0L);
 
         project = projectRepository.save(project);
+        ownershipIndex.remember(project.getId(), userId);
+        invalidateUser(userId);
 
-        return mapToResponse(project);
+        return mapProject(project);
     }
 
-    public List<ProjectResponse> getAllProjects(Long userId) {
-        return projectRepository.findByUserId(userId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getAllProjects(Long userId, boolean summary) {
+        List<ProjectRow> rows = projectsByUserCache.get(userKey(userId, summary), () ->
+                projectRepository.findByUserId(userId, viewType(summary)).stream()
+                        .map(ProjectRow::of)
+                        .toList());
+
+        return toResponses(rows);
     }
 
+    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long id, Long userId) {
-        Project project = projectRepository.findById(id)
+        ProjectDetails project = projectRepository.findProjectedById(id, ProjectDetails.class)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
 
         if (!project.getUserId().equals(userId)) {
             throw new RuntimeException("Unauthorized access");
         }
+        ownershipIndex.remember(id, project.getUserId());
 
-        return mapToResponse(project);
+        return mapToResponses(List.of(project)).get(0);
     }
 
+    @Transactional
     public ProjectResponse updateProject(Long id, ProjectRequest request, Long userId) {
+        checkOwnership(id, userId);
+
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
 
-        if (!project.getUserId().equals(userId)) {
-            throw new RuntimeException("Unauthorized access");
-        }
-
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
 
         project = projectRepository.save(project);
+        invalidateUser(userId);
 
-        return mapToResponse(project);
+        return fillMissingStats(List.of(mapProject(project))).get(0);
     }
 
+    @Transactional
     public void deleteProject(Long id, Long userId) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+        checkOwnership(id, userId);
 
-        if (!project.getUserId().equals(userId)) {
+        if (projectRepository.deleteProjectById(id) == 0) {
+            throw new RuntimeException("Project not found");
+        }
+        ownershipIndex.forget(id);
+        invalidateUser(userId);
+        // Tasks are removed asynchronously by task-service so large projects delete instantly
+        deletionNotifier.projectDeleted(id);
+    }
+
+    /**
+     * Drops cached project lists of the owners of the given projects, e.g. after their
+     * task counters changed.
+     */
+    public void evictCachedProjects(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        getOwners(projectIds).values().stream()
+                .distinct()
+                .forEach(this::invalidateUser);
+    }
+
+    private void invalidateUser(Long userId) {
+        projectsByUserCache.evict(userKey(userId, false));
+        projectsByUserCache.evict(userKey(userId, true));
+    }
+
+    private String userKey(Long userId, boolean summary) {
+        return userId + (summary ? ":summary" : ":full");
+    }
+
+    public Map<Long, Long> getOwners(Collection<Long> projectIds) {
+        return ownershipIndex.ownersOf(projectIds);
+    }
+
+    private void checkOwnership(Long id, Long userId) {
+        Long ownerId = ownershipIndex.ownerOf(id);
+        if (ownerId == null) {
+            throw new RuntimeException("Project not found");
+        }
+        if (!ownerId.equals(userId)) {
             throw new RuntimeException("Unauthorized access");
         }
+    }
 
-        projectRepository.delete(project);
+    /**
+     * Ranked full-text search over title and description with prefix matching.
+     * Results are ordered by relevance, so the cursor is the offset of the next page.
+     */
+    @Transactional(readOnly = true)
+    public ProjectPage searchProjects(Long userId, String query, Long cursor, int limit, boolean summary) {
+        String tsQuery = SearchQueryParser.toPrefixTsQuery(query);
+        if (tsQuery == null) {
+            return new ProjectPage(new ArrayList<>(), null);
+        }
+
+        long offset = cursor != null ? cursor : 0L;
+        List<? extends ProjectSummary> projects = summary
+                ? projectRepository.searchSummaries(userId, tsQuery, limit + 1, offset)
+                : projectRepository.searchDetails(userId, tsQuery, limit + 1, offset);
+
+        boolean hasMore = projects.size() > limit;
+        List<ProjectResponse> responses = mapToResponses(hasMore ? projects.subList(0, limit) : projects);
+        return new ProjectPage(responses, hasMore ? offset + limit : null);
+    }
+
+    private Class<? extends ProjectSummary> viewType(boolean summary) {
+        return summary ? ProjectSummary.class : ProjectDetails.class;
+    }
+
+    private List<ProjectResponse> mapToResponses(List<? extends ProjectSummary> projects) {
+        return toResponses(projects.stream().map(ProjectRow::of).toList());
     }
 
-    public List<ProjectResponse> searchProjects(Long userId, String query) {
-        return projectRepository.findByUserIdAndTitleContainingIgnoreCase(userId, query)
-                .stream()
-                .map(this::mapToResponse)
+    private List<ProjectResponse> toResponses(List<ProjectRow> rows) {
+        return fillMissingStats(rows.stream()
+                .map(this::mapProject)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Asks task-service for the counters of projects that have not received a change event yet,
+     * which only happens for projects created before events were introduced, and only until
+     * TaskStatsBackfill has obtained a snapshot for each of them.
+     */
+    private List<ProjectResponse> fillMissingStats(List<ProjectResponse> responses) {
+        List<Long> projectIds = responses.stream()
+                .filter(response -> response.getStatsStatus() == null)
+                .map(ProjectResponse::getId)
                 .collect(Collectors.toList());
+        if (projectIds.isEmpty()) {
+            return responses;
+        }
+
+        // Fetch task statistics concurrently; projects whose stats miss the deadline are marked unavailable
+        Map<Long, Map<String, Object>> statsByProject = taskStatsClient.fetchStats(projectIds);
+
+        for (ProjectResponse response : responses) {
+            if (response.getStatsStatus() == null) {
+                applyStats(response, statsByProject.get(response.getId()));
+            }
+        }
+
+        return responses;
     }
 
-    private ProjectResponse mapToResponse(Project project) {
+    private ProjectResponse mapProject(Project project) {
         ProjectResponse response = new ProjectResponse();
         response.setId(project.getId());
         response.setTitle(project.getTitle());
@@ -94,25 +226,71 @@ public class ProjectService {
         response.setUserId(project.getUserId());
         response.setCreatedAt(project.getCreatedAt());
         response.setUpdatedAt(project.getUpdatedAt());
+        applyStoredStats(response, project.getTotalTasks(), project.getCompletedTasks(), project.getStatsVersion());
 
-        // Fetch task statistics from task service
-        try {
-            String url = "http://task-service:8083/api/tasks/project/" + project.getId() + "/stats";
-            @SuppressWarnings("unchecked")
-            Map<String, Object> stats = restTemplate.getForObject(url, Map.class);
+        return response;
+    }
+
+    private ProjectResponse mapProject(ProjectRow project) {
+        ProjectResponse response = new ProjectResponse();
+        response.setId(project.id());
+        response.setTitle(project.title());
+        response.setDescription(project.description());
+        response.setUserId(project.userId());
+        response.setCreatedAt(project.createdAt());
+        response.setUpdatedAt(project.updatedAt());
+        applyStoredStats(response, project.totalTasks(), project.completedTasks(), project.statsVersion());
+
+        return response;
+    }
 
-            if (stats != null) {
-                response.setTotalTasks((Integer) stats.get("totalTasks"));
-                response.setCompletedTasks((Integer) stats.get("completedTasks"));
-                response.setProgressPercentage((Double) stats.get("progressPercentage"));
+    private void applyStoredStats(ProjectResponse response, Integer totalTasks, Integer completedTasks,
+                                  Long statsVersion) {
+        if (statsVersion == null) {
+            return;
+        }
+        int total = totalTasks != null ? totalTasks : 0;
+        int completed = completedTasks != null ? completedTasks : 0;
+        response.setTotalTasks(total);
+        response.setCompletedTasks(completed);
+        double progressPercentage = total > 0 ? (completed * 100.0) / total : 0.0;
+        response.setProgressPercentage(Math.round(progressPercentage * 100.0) / 100.0);
+        response.setStatsStatus(StatsStatus.AVAILABLE);
+    }
+
+    private void applyStats(ProjectResponse response, Map<String, Object> stats) {
+        if (stats != null) {
+            response.setTotalTasks(((Number) stats.get("totalTasks")).intValue());
+            response.setCompletedTasks(((Number) stats.get("completedTasks")).intValue());
+            response.setProgressPercentage(((Number) stats.get("progressPercentage")).doubleValue());
+            Number ageMs = (Number) stats.get(TaskStatsClient.STATS_AGE_KEY);
+            if (ageMs != null) {
+                response.setStatsStatus(StatsStatus.STALE);
+                response.setStatsAgeMs(ageMs.longValue());
+            } else {
+                response.setStatsStatus(StatsStatus.AVAILABLE);
             }
-        } catch (Exception e) {
-            // If task service is unavailable, set default values
+        } else {
             response.setTotalTasks(0);
             response.setCompletedTasks(0);
             response.setProgressPercentage(0.0);
+            response.setStatsStatus(StatsStatus.UNAVAILABLE);
         }
+    }
 
-        return response;
+    /**
+     * Immutable copy of a projection row, as kept in the cache. Stored counters are copied as
+     * columns; turning them into stats happens on each read.
+     */
+    private record ProjectRow(Long id, String title, String description, Long userId, LocalDateTime createdAt,
+                              LocalDateTime updatedAt, Integer totalTasks, Integer completedTasks,
+                              Long statsVersion) {
+
+        static ProjectRow of(ProjectSummary project) {
+            return new ProjectRow(project.getId(), project.getTitle(),
+                    project instanceof ProjectDetails details ? details.getDescription() : null,
+                    project.getUserId(), project.getCreatedAt(), project.getUpdatedAt(),
+                    project.getTotalTasks(), project.getCompletedTasks(), project.getStatsVersion());
+        }
     }
 }
@@ -0,0 +1,29 @@
+package com.intern.projectservice.service;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Turns free-text user input into a Postgres tsquery where every word is a prefix match,
+ * e.g. "Write rep" becomes "write:* &amp; rep:*". Anything that is not a letter or digit is
+ * treated as a separator, so user input can never inject tsquery operators.
+ */
+final class SearchQueryParser {
+
+    private SearchQueryParser() {
+    }
+
+    static String toPrefixTsQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+
+        StringJoiner tsQuery = new StringJoiner(" & ");
+        for (String token : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tsQuery.add(token + ":*");
+            }
+        }
+        return tsQuery.length() > 0 ? tsQuery.toString() : null;
+    }
+}
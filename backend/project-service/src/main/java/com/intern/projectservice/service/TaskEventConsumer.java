@@ -0,0 +1,62 @@
+package com.intern.projectservice.service;
+
+import com.intern.projectservice.dto.TaskChangeEvent;
+import com.intern.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies task change events to the denormalized counters on projects, so listing projects
+ * needs no call to task-service.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskEventConsumer {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong lastEventId = new AtomicLong();
+
+    @Transactional
+    public Map<String, Object> consume(List<TaskChangeEvent> events) {
+        // Only the newest snapshot of each project matters
+        Map<Long, TaskChangeEvent> latest = new HashMap<>();
+        for (TaskChangeEvent event : events) {
+            latest.merge(event.getProjectId(), event,
+                    (current, candidate) -> candidate.getStatsVersion() > current.getStatsVersion() ? candidate : current);
+            lastEventId.accumulateAndGet(event.getEventId(), Math::max);
+        }
+
+        int updated = 0;
+        for (TaskChangeEvent event : latest.values()) {
+            updated += projectRepository.applyTaskStats(event.getProjectId(), event.getTotalTasks(),
+                    event.getCompletedTasks(), event.getStatsVersion());
+        }
+        projectService.evictCachedProjects(latest.keySet());
+
+        received.addAndGet(events.size());
+        applied.addAndGet(updated);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("received", events.size());
+        result.put("applied", updated);
+        return result;
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("received", received.get());
+        metrics.put("applied", applied.get());
+        metrics.put("lastEventId", lastEventId.get());
+        return metrics;
+    }
+}
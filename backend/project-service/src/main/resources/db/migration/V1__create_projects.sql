@@ -0,0 +1,20 @@
+-- Matches the table Hibernate used to create, so existing databases pass through unchanged
+CREATE TABLE IF NOT EXISTS projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    user_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+-- Task counters maintained from task-service change events; stats_version is null until synced
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS total_tasks INTEGER;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS completed_tasks INTEGER;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS stats_version BIGINT;
+
+-- Full-text search column generated by Postgres, never written by the application
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
@@ -0,0 +1,6 @@
+-- findByUserId and search filter on the owner; the summary view's columns are included so
+-- list queries can be answered from the index alone
+CREATE INDEX IF NOT EXISTS idx_projects_user_id ON projects (user_id, id)
+    INCLUDE (title, created_at, updated_at, total_tasks, completed_tasks, stats_version);
+
+CREATE INDEX IF NOT EXISTS idx_projects_search_vector ON projects USING GIN (search_vector);
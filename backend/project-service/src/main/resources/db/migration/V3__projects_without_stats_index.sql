@@ -0,0 +1,3 @@
+-- TaskStatsBackfill looks for projects that never received a counters snapshot; the index
+-- empties as the backfill completes, so later passes cost a single lookup
+CREATE INDEX IF NOT EXISTS idx_projects_stats_missing ON projects (id) WHERE stats_version IS NULL;
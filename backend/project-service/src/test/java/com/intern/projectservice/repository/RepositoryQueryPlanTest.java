@@ -0,0 +1,139 @@
+package com.intern.projectservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks the plan of every ProjectRepository query against the schema the migrations create.
+ * Sequential scans are disabled for the session, so a "Seq Scan" in a plan means no index can
+ * serve that query shape. Native queries are read from their @Query annotations, so they cannot
+ * drift from the repository; derived and JPQL queries are written out as the SQL Hibernate
+ * generates for them.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final Pattern PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+    private static final Map<String, String> PARAMETER_VALUES = Map.ofEntries(
+            Map.entry("projectId", "42"),
+            Map.entry("userId", "7"),
+            Map.entry("totalTasks", "10"),
+            Map.entry("completedTasks", "4"),
+            Map.entry("statsVersion", "3"),
+            Map.entry("tsQuery", "'project:*'"),
+            Map.entry("limit", "20"),
+            Map.entry("offset", "0"));
+
+    private static final String SUMMARY_SELECT = "SELECT p.id, p.title, p.user_id, p.created_at, p.updated_at, "
+            + "p.total_tasks, p.completed_tasks, p.stats_version FROM projects p ";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .table("flyway_history_project")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            // One project in a hundred still waits for its first counters snapshot
+            statement.execute("INSERT INTO projects (title, description, user_id, created_at, updated_at, "
+                    + "total_tasks, completed_tasks, stats_version) "
+                    + "SELECT 'project ' || g, 'description ' || g, g % 1000, now(), now(), 10, 4, "
+                    + "CASE WHEN g % 100 = 0 THEN NULL ELSE 1 END "
+                    + "FROM generate_series(1, 50000) g");
+            statement.execute("ANALYZE");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("findProjectedById", "SELECT * FROM projects p WHERE p.id = 42"),
+                Arguments.of("findByUserId (summary)", SUMMARY_SELECT + "WHERE p.user_id = 7"),
+                Arguments.of("findByUserId (details)", "SELECT * FROM projects p WHERE p.user_id = 7"),
+                Arguments.of("findUserIdById", "SELECT p.user_id FROM projects p WHERE p.id = 42"),
+                Arguments.of("findOwnersByIds", "SELECT p.id, p.user_id FROM projects p WHERE p.id IN (1, 2, 3)"),
+                Arguments.of("findIdsWithoutStats", "SELECT p.id FROM projects p "
+                        + "WHERE p.stats_version IS NULL AND p.id > 0 ORDER BY p.id LIMIT 500"),
+                Arguments.of("deleteProjectById", "DELETE FROM projects p WHERE p.id = 42"),
+                nativeQuery(ProjectRepository.class, "applyTaskStats"),
+                nativeQuery(ProjectRepository.class, "searchSummaries"),
+                nativeQuery(ProjectRepository.class, "searchDetails"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void planUsesAnIndex(String method, String sql) throws SQLException {
+        String plan = explain(sql);
+        assertFalse(plan.contains("Seq Scan"), method + " falls back to a sequential scan:\n" + plan);
+    }
+
+    private static Arguments nativeQuery(Class<?> repository, String methodName) {
+        Method method = Arrays.stream(repository.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No method " + methodName));
+        String sql = method.getAnnotation(Query.class).value();
+        return Arguments.of(repository.getSimpleName() + "." + methodName, bind(sql));
+    }
+
+    private static String bind(String sql) {
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String value = PARAMETER_VALUES.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("No test value for :" + matcher.group(1));
+            }
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(bound);
+        return bound.toString();
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
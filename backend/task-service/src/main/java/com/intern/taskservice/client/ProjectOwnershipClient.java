@@ -0,0 +1,121 @@
+package com.intern.taskservice.client;
+
+import com.intern.common.client.InterServiceHttpClient;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Answers "does user U own project P" for task-service from a local cache of project owners,
+ * filled from project-service. Owners never change, so entries only expire to pick up deletions.
+ * At capacity the least recently used entry makes room, so the hot set survives.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectOwnershipClient {
+
+    private static final String OWNERS_PATH = "/internal/projects/owners?ids={ids}";
+    private static final long UNKNOWN_OWNER = -1L;
+
+    private final InterServiceHttpClient httpClient;
+
+    @Value("${project.service.url}")
+    private String projectServiceUrl;
+
+    @Value("${projects.ownership-cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    @Value("${projects.ownership-cache.missing-ttl-ms:10000}")
+    private long missingTtlMs;
+
+    @Value("${projects.ownership-cache.max-entries:200000}")
+    private int maxEntries;
+
+    private InterServiceHttpClient.Route route;
+    private final LinkedHashMap<Long, Entry> owners = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > maxEntries) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        route = httpClient.route("project-owners", projectServiceUrl, 1000, 2);
+    }
+
+    public boolean isOwner(Long projectId, Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry;
+        lock.lock();
+        try {
+            entry = owners.get(projectId);
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null && entry.expiresAtMillis > now) {
+            hits.incrementAndGet();
+            return entry.ownerId == userId;
+        }
+
+        misses.incrementAndGet();
+        // Fetched without the lock held, so a slow project-service never blocks cache hits
+        long ownerId = fetchOwner(projectId);
+        lock.lock();
+        try {
+            owners.put(projectId, new Entry(ownerId, now + (ownerId == UNKNOWN_OWNER ? missingTtlMs : ttlMs)));
+        } finally {
+            lock.unlock();
+        }
+        return ownerId == userId;
+    }
+
+    public void forget(Long projectId) {
+        lock.lock();
+        try {
+            owners.remove(projectId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        lock.lock();
+        try {
+            metrics.put("size", owners.size());
+        } finally {
+            lock.unlock();
+        }
+        metrics.put("maxEntries", maxEntries);
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("evictions", evictions.get());
+        return metrics;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long fetchOwner(Long projectId) {
+        Map<String, Number> response = route.get(OWNERS_PATH, Map.class, projectId);
+        Number ownerId = response != null ? response.get(String.valueOf(projectId)) : null;
+        return ownerId != null ? ownerId.longValue() : UNKNOWN_OWNER;
+    }
+
+    private record Entry(long ownerId, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.intern.taskservice.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking R2DBC access for the read endpoints under /api/tasks/reactive, enabled with the
+ * "reactive" profile. Writes keep going through JPA; both stacks read the same tables.
+ * Spring Boot's R2DBC auto-configuration is excluded so the JPA transaction manager stays the
+ * only one and the service starts without an R2DBC URL when the profile is off.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool readConnectionFactory(
+            @Value("${task.reactive.r2dbc.url:r2dbc:postgresql://postgres:5432/taskmanagement}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${task.reactive.r2dbc.pool.max-size:10}") int maxSize,
+            @Value("${task.reactive.r2dbc.pool.max-acquire-time-ms:2000}") long maxAcquireTimeMs) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .maxSize(maxSize)
+                .maxAcquireTime(Duration.ofMillis(maxAcquireTimeMs))
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient readDatabaseClient(ConnectionPool readConnectionFactory) {
+        return DatabaseClient.create(readConnectionFactory);
+    }
+}
@@ -0,0 +1,74 @@
+package com.intern.taskservice.controller;
+
+import com.intern.taskservice.model.ProjectDeletionJob;
+import com.intern.taskservice.service.ProjectDeletionService;
+import com.intern.taskservice.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/tasks")
+@RequiredArgsConstructor
+public class InternalTaskController {
+
+    private final TaskService taskService;
+    private final ProjectDeletionService projectDeletionService;
+
+    @PostMapping("/stats")
+    public ResponseEntity<?> getProjectStatsBatch(@RequestBody List<Long> projectIds) {
+        try {
+            Map<Long, Map<String, Object>> stats = taskService.getProjectStatsBatch(projectIds);
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @PostMapping("/stats-snapshots")
+    public ResponseEntity<?> publishStatsSnapshots(@RequestBody List<Long> projectIds) {
+        try {
+            int published = taskService.publishStatsSnapshots(projectIds);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Stats snapshot queued for " + published + " project(s)");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @PostMapping("/project-deletions")
+    public ResponseEntity<?> requestProjectDeletions(@RequestBody List<Long> projectIds) {
+        try {
+            projectDeletionService.requestDeletion(projectIds);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Task deletion scheduled for " + projectIds.size() + " project(s)");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @GetMapping("/project-deletions/{projectId}")
+    public ResponseEntity<?> getProjectDeletion(@PathVariable Long projectId) {
+        try {
+            ProjectDeletionJob job = projectDeletionService.getJob(projectId);
+            return ResponseEntity.ok(job);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+}
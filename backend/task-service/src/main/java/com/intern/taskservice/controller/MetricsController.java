@@ -0,0 +1,47 @@
+package com.intern.taskservice.controller;
+
+import com.intern.common.cache.CacheRegistry;
+import com.intern.common.client.InterServiceHttpClient;
+import com.intern.common.config.ConnectionPoolMetrics;
+import com.intern.common.security.JwksKeyResolver;
+import com.intern.common.security.JwtUtil;
+import com.intern.taskservice.client.ProjectOwnershipClient;
+import com.intern.taskservice.service.OutboxRelay;
+import com.intern.taskservice.service.ProjectDeletionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final JwtUtil jwtUtil;
+    private final JwksKeyResolver jwksKeyResolver;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final CacheRegistry cacheRegistry;
+    private final ProjectOwnershipClient ownershipClient;
+    private final OutboxRelay outboxRelay;
+    private final ProjectDeletionService projectDeletionService;
+    private final InterServiceHttpClient httpClient;
+
+    @GetMapping
+    public ResponseEntity<?> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("jwtClaimsCache", jwtUtil.cacheMetrics());
+        metrics.put("jwks", jwksKeyResolver.metrics());
+        metrics.put("connectionPool", connectionPoolMetrics.metrics());
+        metrics.put("caches", cacheRegistry.metrics());
+        metrics.put("projectOwnershipCache", ownershipClient.metrics());
+        metrics.put("outbox", outboxRelay.metrics());
+        metrics.put("projectDeletions", projectDeletionService.metrics());
+        metrics.put("httpClient", httpClient.metrics());
+        return ResponseEntity.ok(metrics);
+    }
+}
@@ -0,0 +1,113 @@
+package com.intern.taskservice.controller;
+
+import com.intern.common.security.JwtAuthenticationFilter;
+import com.intern.taskservice.dto.TaskResponse;
+import com.intern.taskservice.service.ReactiveTaskService;
+import com.intern.taskservice.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking read endpoints backed by R2DBC, available with the "reactive" profile.
+ * The servlet thread is released while the query runs; streamed results are written as the
+ * client consumes them, so a slow reader slows the database fetch instead of buffering rows.
+ */
+@RestController
+@RequestMapping("/api/tasks/reactive")
+@RequiredArgsConstructor
+@Profile("reactive")
+@CrossOrigin(origins = "${cors.allowed-origins}", exposedHeaders = "X-Next-Cursor")
+public class ReactiveTaskController {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ReactiveTaskService reactiveTaskService;
+    // Ownership comes from a local cache; only a cold entry costs a blocking call to project-service
+    private final TaskService taskService;
+
+    @GetMapping("/project/{projectId}")
+    public Mono<ResponseEntity<?>> getTasksByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return checkAccess(projectId, userId)
+                .thenMany(reactiveTaskService.getTasksByProject(projectId, cursor, pageSize + 1))
+                .collectList()
+                .<ResponseEntity<?>>map(tasks -> pageResponse(tasks, pageSize))
+                .onErrorResume(e -> Mono.just(errorResponse(e)));
+    }
+
+    @GetMapping(value = "/project/{projectId}/stream", produces = NDJSON)
+    public Flux<TaskResponse> streamTasksByProject(
+            @PathVariable Long projectId,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
+        // Checked on the request thread before the first element, while the status can still change
+        try {
+            taskService.checkProjectAccess(projectId, userId);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return reactiveTaskService.streamTasksByProject(projectId);
+    }
+
+    @GetMapping("/project/{projectId}/stats")
+    public Mono<ResponseEntity<?>> getProjectStats(
+            @PathVariable Long projectId,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
+        return checkAccess(projectId, userId)
+                .then(reactiveTaskService.getProjectStats(projectId))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(errorResponse(e)));
+    }
+
+    @PostMapping("/stats")
+    public Mono<ResponseEntity<?>> getProjectStatsBatch(
+            @RequestBody List<Long> projectIds,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
+        return Flux.fromIterable(projectIds)
+                .concatMap(projectId -> checkAccess(projectId, userId))
+                .then(reactiveTaskService.getProjectStatsBatch(projectIds))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(errorResponse(e)));
+    }
+
+    /**
+     * A cold ownership entry means a blocking call to project-service, so the check runs on the
+     * bounded elastic scheduler and never on an R2DBC event-loop thread.
+     */
+    private Mono<Void> checkAccess(Long projectId, Long userId) {
+        return Mono.<Void>fromRunnable(() -> taskService.checkProjectAccess(projectId, userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ResponseEntity<?> pageResponse(List<TaskResponse> tasks, int pageSize) {
+        if (tasks.size() <= pageSize) {
+            return ResponseEntity.ok(tasks);
+        }
+        List<TaskResponse> page = tasks.subList(0, pageSize);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, String.valueOf(page.get(pageSize - 1).getId()))
+                .body(page);
+    }
+
+    private ResponseEntity<?> errorResponse(Throwable e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+}
@@ -1,13 +1,19 @@
 package com.intern.taskservice.controller;
 
+import com.intern.common.security.JwtAuthenticationFilter;
+import com.intern.taskservice.dto.BatchTaskRequest;
+import com.intern.taskservice.dto.TaskOperationResult;
+import com.intern.taskservice.dto.TaskPage;
 import com.intern.taskservice.dto.TaskRequest;
 import com.intern.taskservice.dto.TaskResponse;
 import com.intern.taskservice.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -16,15 +22,37 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "${cors.allowed-origins}")
+@CrossOrigin(origins = "${cors.allowed-origins}", exposedHeaders = "X-Next-Cursor")
 public class TaskController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TaskService taskService;
 
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private boolean isSummary(String view) {
+        return "summary".equalsIgnoreCase(view);
+    }
+
+    private ResponseEntity<?> pageResponse(TaskPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getTasks());
+    }
+
     @PostMapping
-    public ResponseEntity<?> createTask(@Valid @RequestBody TaskRequest request) {
+    public ResponseEntity<?> createTask(
+            @Valid @RequestBody TaskRequest request,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            TaskResponse response = taskService.createTask(request);
+            TaskResponse response = taskService.createTask(request, userId);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -33,11 +61,31 @@ public class TaskController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> applyBatch(
+            @Valid @RequestBody BatchTaskRequest request,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
+        try {
+            List<TaskOperationResult> results = taskService.applyBatch(request.getOperations(), userId);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<?> getTasksByProject(@PathVariable Long projectId) {
+    public ResponseEntity<?> getTasksByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            List<TaskResponse> tasks = taskService.getTasksByProject(projectId);
-            return ResponseEntity.ok(tasks);
+            taskService.checkProjectAccess(projectId, userId);
+            TaskPage page = taskService.getTasksByProject(projectId, cursor, clampLimit(limit), isSummary(view));
+            return pageResponse(page);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", e.getMessage());
@@ -45,10 +93,29 @@ public class TaskController {
         }
     }
 
+    @GetMapping(value = "/project/{projectId}/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamTasksByProject(
+            @PathVariable Long projectId,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
+        // Checked up front: once streaming starts, the status can no longer change
+        try {
+            taskService.checkProjectAccess(projectId, userId);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        StreamingResponseBody body = out -> taskService.streamTasksByProject(projectId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<?> getTaskById(
+            @PathVariable Long id,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            TaskResponse task = taskService.getTaskById(id);
+            TaskResponse task = taskService.getTaskById(id, userId);
             return ResponseEntity.ok(task);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -60,9 +127,10 @@ public class TaskController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody TaskRequest request) {
+            @Valid @RequestBody TaskRequest request,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            TaskResponse response = taskService.updateTask(id, request);
+            TaskResponse response = taskService.updateTask(id, request, userId);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -72,9 +140,26 @@ public class TaskController {
     }
 
     @PatchMapping("/{id}/toggle")
-    public ResponseEntity<?> toggleTaskCompletion(@PathVariable Long id) {
+    public ResponseEntity<?> toggleTaskCompletion(
+            @PathVariable Long id,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            TaskResponse response = taskService.toggleTaskCompletion(id);
+            TaskResponse response = taskService.toggleTaskCompletion(id, userId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @PatchMapping("/{id}/completed")
+    public ResponseEntity<?> setTaskCompletion(
+            @PathVariable Long id,
+            @RequestParam boolean value,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
+        try {
+            TaskResponse response = taskService.setTaskCompletion(id, value, userId);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -84,9 +169,11 @@ public class TaskController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTask(@PathVariable Long id) {
+    public ResponseEntity<?> deleteTask(
+            @PathVariable Long id,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            taskService.deleteTask(id);
+            taskService.deleteTask(id, userId);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Task deleted successfully");
             return ResponseEntity.ok(response);
@@ -100,10 +187,15 @@ public class TaskController {
     @GetMapping("/project/{projectId}/search")
     public ResponseEntity<?> searchTasks(
             @PathVariable Long projectId,
-            @RequestParam String query) {
+            @RequestParam String query,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            List<TaskResponse> tasks = taskService.searchTasks(projectId, query);
-            return ResponseEntity.ok(tasks);
+            taskService.checkProjectAccess(projectId, userId);
+            TaskPage page = taskService.searchTasks(projectId, query, cursor, clampLimit(limit), isSummary(view));
+            return pageResponse(page);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", e.getMessage());
@@ -114,10 +206,15 @@ public class TaskController {
     @GetMapping("/project/{projectId}/filter")
     public ResponseEntity<?> filterTasks(
             @PathVariable Long projectId,
-            @RequestParam Boolean completed) {
+            @RequestParam Boolean completed,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            List<TaskResponse> tasks = taskService.filterTasksByStatus(projectId, completed);
-            return ResponseEntity.ok(tasks);
+            taskService.checkProjectAccess(projectId, userId);
+            TaskPage page = taskService.filterTasksByStatus(projectId, completed, cursor, clampLimit(limit), isSummary(view));
+            return pageResponse(page);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", e.getMessage());
@@ -126,8 +223,11 @@ public class TaskController {
     }
 
     @GetMapping("/project/{projectId}/stats")
-    public ResponseEntity<?> getProjectStats(@PathVariable Long projectId) {
+    public ResponseEntity<?> getProjectStats(
+            @PathVariable Long projectId,
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long userId) {
         try {
+            taskService.checkProjectAccess(projectId, userId);
             Map<String, Object> stats = taskService.getProjectStats(projectId);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
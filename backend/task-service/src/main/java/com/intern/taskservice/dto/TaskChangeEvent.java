@@ -0,0 +1,25 @@
+package com.intern.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox event as published to project-service. The counters are absolute values and
+ * statsVersion orders snapshots of the same project.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeEvent {
+    private Long eventId;
+    private String type;
+    private Long taskId;
+    private Long projectId;
+    private Long totalTasks;
+    private Long completedTasks;
+    private Long statsVersion;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,8 @@
+package com.intern.taskservice.dto;
+
+/**
+ * Read-only projection of a task including its description.
+ */
+public interface TaskDetails extends TaskSummary {
+    String getDescription();
+}
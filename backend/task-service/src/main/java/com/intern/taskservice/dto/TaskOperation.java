@@ -0,0 +1,24 @@
+package com.intern.taskservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class TaskOperation {
+    @NotNull(message = "Operation type is required")
+    private TaskOperationType type;
+
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private Long projectId;
+
+    private LocalDate dueDate;
+
+    private Long version;
+}
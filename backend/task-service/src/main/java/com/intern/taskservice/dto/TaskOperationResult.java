@@ -0,0 +1,15 @@
+package com.intern.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOperationResult {
+    private int index;
+    private boolean success;
+    private TaskResponse task;
+    private String message;
+}
@@ -0,0 +1,8 @@
+package com.intern.taskservice.dto;
+
+public enum TaskOperationType {
+    CREATE,
+    UPDATE,
+    TOGGLE,
+    DELETE
+}
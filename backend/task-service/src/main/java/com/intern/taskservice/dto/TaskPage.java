@@ -0,0 +1,15 @@
+package com.intern.taskservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPage {
+    private List<TaskResponse> tasks;
+    private Long nextCursor;
+}
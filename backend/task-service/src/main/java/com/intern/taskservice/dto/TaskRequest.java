@@ -17,4 +17,6 @@ public class TaskRequest {
     private Long projectId;
 
     private LocalDate dueDate;
+
+    private Long version;
 }
@@ -19,4 +19,5 @@ public class TaskResponse {
     private Boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,18 @@
+package com.intern.taskservice.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task without its description, used by list views.
+ */
+public interface TaskSummary {
+    Long getId();
+    String getTitle();
+    Long getProjectId();
+    LocalDate getDueDate();
+    Boolean getCompleted();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Long getVersion();
+}
@@ -0,0 +1,8 @@
+package com.intern.taskservice.dto;
+
+/**
+ * Row returned by an atomic task update, together with the project the task belonged to before.
+ */
+public interface TaskUpdateResult extends TaskDetails {
+    Long getPreviousProjectId();
+}
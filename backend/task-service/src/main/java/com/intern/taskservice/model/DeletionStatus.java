@@ -0,0 +1,8 @@
+package com.intern.taskservice.model;
+
+public enum DeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,47 @@
+package com.intern.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of removing the tasks of a deleted project, one row per project.
+ */
+@Entity
+@Table(name = "project_deletion_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeletionJob {
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private DeletionStatus status;
+
+    @Column(name = "deleted_tasks", nullable = false)
+    private Long deletedTasks = 0L;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
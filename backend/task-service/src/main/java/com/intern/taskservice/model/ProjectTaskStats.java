@@ -0,0 +1,32 @@
+package com.intern.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "project_task_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTaskStats {
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "total_tasks", nullable = false)
+    private Long totalTasks = 0L;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private Long completedTasks = 0L;
+
+    // Bumped by every counter write so consumers of outbox snapshots can discard stale ones
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
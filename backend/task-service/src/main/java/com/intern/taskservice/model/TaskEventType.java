@@ -0,0 +1,14 @@
+package com.intern.taskservice.model;
+
+/**
+ * Kinds of task change recorded in the outbox. Every event also carries the project's
+ * counters after the change, so consumers never need to replay deltas.
+ */
+public enum TaskEventType {
+    TASK_CREATED,
+    TASK_TOGGLED,
+    TASK_DELETED,
+    TASK_MOVED,
+    TASKS_BATCH_APPLIED,
+    STATS_RECONCILED
+}
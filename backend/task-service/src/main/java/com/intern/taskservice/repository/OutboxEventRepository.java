@@ -0,0 +1,63 @@
+package com.intern.taskservice.repository;
+
+import com.intern.taskservice.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Records an event carrying the project's counters as written by the same transaction.
+     * The counters row is locked by the preceding upsert, so the snapshot and its version match.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_outbox (event_type, task_id, project_id, total_tasks, completed_tasks, " +
+            "stats_version, created_at) " +
+            "SELECT CAST(:eventType AS VARCHAR), CAST(:taskId AS BIGINT), " +
+            "s.project_id, s.total_tasks, s.completed_tasks, s.version, now() " +
+            "FROM project_task_stats s WHERE s.project_id = :projectId",
+            nativeQuery = true)
+    void record(@Param("eventType") String eventType,
+                @Param("taskId") Long taskId,
+                @Param("projectId") Long projectId);
+
+    /**
+     * Claims up to limit unpublished events for leaseMs and returns them, in no particular order.
+     * SKIP LOCKED lets several relay instances claim disjoint batches; the claim is committed
+     * right away, so no lock is held while the batch is posted.
+     */
+    @Transactional
+    @Query(value = "UPDATE task_outbox SET claimed_until = now() + CAST(:leaseMs AS BIGINT) * interval '1 millisecond' " +
+            "WHERE id IN (SELECT id FROM task_outbox WHERE published_at IS NULL " +
+            "AND (claimed_until IS NULL OR claimed_until < now()) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *",
+            nativeQuery = true)
+    List<OutboxEvent> claimPending(@Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = CURRENT_TIMESTAMP WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids);
+
+    // Makes a batch that could not be delivered claimable again on the next run
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = NULL WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int releaseClaims(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByPublishedAtIsNull();
+}
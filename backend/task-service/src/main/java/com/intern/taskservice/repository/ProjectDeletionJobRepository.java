@@ -0,0 +1,41 @@
+package com.intern.taskservice.repository;
+
+import com.intern.taskservice.model.DeletionStatus;
+import com.intern.taskservice.model.ProjectDeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectDeletionJobRepository extends JpaRepository<ProjectDeletionJob, Long> {
+
+    // Re-requesting a finished or failed job starts it over; a job in progress is left alone
+    @Modifying
+    @Query(value = "INSERT INTO project_deletion_jobs (project_id, status, deleted_tasks, attempts, " +
+            "next_attempt_at, created_at, updated_at) " +
+            "VALUES (:projectId, 'PENDING', 0, 0, now(), now(), now()) " +
+            "ON CONFLICT (project_id) DO UPDATE SET status = 'PENDING', attempts = 0, last_error = NULL, " +
+            "next_attempt_at = now(), completed_at = NULL, updated_at = now() " +
+            "WHERE project_deletion_jobs.status IN ('COMPLETED', 'FAILED')",
+            nativeQuery = true)
+    void enqueue(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT project_id FROM project_deletion_jobs " +
+            "WHERE status IN ('PENDING', 'RUNNING') AND next_attempt_at <= now() " +
+            "ORDER BY next_attempt_at LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDueProjectIds(@Param("limit") int limit);
+
+    // Held for the duration of one chunk so that two workers never delete for the same project
+    @Query(value = "SELECT * FROM project_deletion_jobs WHERE project_id = :projectId " +
+            "AND status IN ('PENDING', 'RUNNING') FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    Optional<ProjectDeletionJob> lockActive(@Param("projectId") Long projectId);
+
+    long countByStatus(DeletionStatus status);
+}
@@ -0,0 +1,48 @@
+package com.intern.taskservice.repository;
+
+import com.intern.taskservice.model.ProjectTaskStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, total_tasks, completed_tasks, version, updated_at) " +
+            "VALUES (:projectId, GREATEST(:totalDelta, 0), GREATEST(:completedDelta, 0), 1, now()) " +
+            "ON CONFLICT (project_id) DO UPDATE SET " +
+            "total_tasks = project_task_stats.total_tasks + :totalDelta, " +
+            "completed_tasks = project_task_stats.completed_tasks + :completedDelta, " +
+            "version = project_task_stats.version + 1, updated_at = now()",
+            nativeQuery = true)
+    void applyDelta(@Param("projectId") Long projectId,
+                    @Param("totalDelta") long totalDelta,
+                    @Param("completedDelta") long completedDelta);
+
+    // Gives a project with tasks but no counters row one, so that it can be locked
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, total_tasks, completed_tasks, version, updated_at) " +
+            "VALUES (:projectId, 0, 0, 0, now()) ON CONFLICT (project_id) DO NOTHING",
+            nativeQuery = true)
+    void insertIfMissing(@Param("projectId") Long projectId);
+
+    // Every task write takes this row lock through applyDelta, so holding it freezes the project's counts
+    @Query(value = "SELECT * FROM project_task_stats WHERE project_id = :projectId FOR UPDATE", nativeQuery = true)
+    Optional<ProjectTaskStats> lockById(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, total_tasks, completed_tasks, version, updated_at) " +
+            "VALUES (:projectId, :totalTasks, :completedTasks, 1, now()) " +
+            "ON CONFLICT (project_id) DO UPDATE SET " +
+            "total_tasks = :totalTasks, completed_tasks = :completedTasks, " +
+            "version = project_task_stats.version + 1, updated_at = now()",
+            nativeQuery = true)
+    void overwrite(@Param("projectId") Long projectId,
+                   @Param("totalTasks") long totalTasks,
+                   @Param("completedTasks") long completedTasks);
+}
@@ -0,0 +1,85 @@
+package com.intern.taskservice.repository;
+
+import com.intern.taskservice.dto.TaskResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * R2DBC read queries over the tasks and project_task_stats tables. Rows are fetched from
+ * the server in batches as the subscriber requests them, so results of any size are
+ * streamed in constant memory.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, project_id, due_date, completed, " +
+            "created_at, updated_at, version";
+    private static final int FETCH_SIZE = 500;
+
+    private final DatabaseClient readDatabaseClient;
+
+    public Flux<TaskResponse> streamByProjectId(Long projectId) {
+        return readDatabaseClient.sql("SELECT " + COLUMNS + " FROM tasks WHERE project_id = :projectId ORDER BY id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("projectId", projectId)
+                .map(ReactiveTaskRepository::toResponse)
+                .all();
+    }
+
+    public Flux<TaskResponse> findPageByProjectId(Long projectId, long afterId, int limit) {
+        return readDatabaseClient.sql("SELECT " + COLUMNS + " FROM tasks " +
+                        "WHERE project_id = :projectId AND id > :afterId ORDER BY id LIMIT :limit")
+                .bind("projectId", projectId)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveTaskRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * Emits [projectId, totalTasks, completedTasks] for the given projects that have counters.
+     */
+    public Flux<long[]> findStats(Collection<Long> projectIds) {
+        return readDatabaseClient.sql("SELECT project_id, total_tasks, completed_tasks FROM project_task_stats " +
+                        "WHERE project_id = ANY(:projectIds)")
+                .bind("projectIds", projectIds.toArray(new Long[0]))
+                .map(row -> new long[]{
+                        row.get("project_id", Long.class),
+                        row.get("total_tasks", Long.class),
+                        row.get("completed_tasks", Long.class)})
+                .all();
+    }
+
+    public Mono<long[]> findStats(Long projectId) {
+        return readDatabaseClient.sql("SELECT total_tasks, completed_tasks FROM project_task_stats " +
+                        "WHERE project_id = :projectId")
+                .bind("projectId", projectId)
+                .map(row -> new long[]{row.get("total_tasks", Long.class), row.get("completed_tasks", Long.class)})
+                .one();
+    }
+
+    private static TaskResponse toResponse(Readable row) {
+        TaskResponse response = new TaskResponse();
+        response.setId(row.get("id", Long.class));
+        response.setTitle(row.get("title", String.class));
+        response.setDescription(row.get("description", String.class));
+        response.setProjectId(row.get("project_id", Long.class));
+        response.setDueDate(row.get("due_date", LocalDate.class));
+        response.setCompleted(row.get("completed", Boolean.class));
+        response.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        response.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        response.setVersion(row.get("version", Long.class));
+        return response;
+    }
+}
@@ -1,16 +1,111 @@
 package com.intern.taskservice.repository;
 
+import com.intern.taskservice.dto.TaskDetails;
+import com.intern.taskservice.dto.TaskSummary;
+import com.intern.taskservice.dto.TaskUpdateResult;
 import com.intern.taskservice.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectId(Long projectId);
-    List<Task> findByProjectIdAndCompleted(Long projectId, Boolean completed);
-    List<Task> findByProjectIdAndTitleContainingIgnoreCase(Long projectId, String title);
+    String SUMMARY_COLUMNS = "t.id AS id, t.title AS title, t.project_id AS \"projectId\", t.due_date AS \"dueDate\", " +
+            "t.completed AS completed, t.created_at AS \"createdAt\", t.updated_at AS \"updatedAt\", t.version AS version";
+    String DETAIL_COLUMNS = SUMMARY_COLUMNS + ", t.description AS description";
+    String SEARCH = " FROM tasks t WHERE t.project_id = :projectId " +
+            "AND t.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "ORDER BY ts_rank(t.search_vector, to_tsquery('simple', :tsQuery)) DESC, t.id " +
+            "LIMIT :limit OFFSET :offset";
+
+    <T> Optional<T> findProjectedById(Long id, Class<T> type);
+    <T> List<T> findByProjectIdAndIdGreaterThanOrderByIdAsc(
+            Long projectId, Long afterId, Pageable pageable, Class<T> type);
+    <T> List<T> findByProjectIdAndCompletedAndIdGreaterThanOrderByIdAsc(
+            Long projectId, Boolean completed, Long afterId, Pageable pageable, Class<T> type);
     long countByProjectId(Long projectId);
+
+    @Query("SELECT t.projectId FROM Task t WHERE t.id = :id")
+    Optional<Long> findProjectIdById(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT t.projectId FROM Task t WHERE t.id IN :ids")
+    List<Long> findProjectIdsByIdIn(@Param("ids") Collection<Long> ids);
     long countByProjectIdAndCompleted(Long projectId, Boolean completed);
+
+    @Query("SELECT t.projectId, COUNT(t), SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END) " +
+            "FROM Task t GROUP BY t.projectId")
+    List<Object[]> countStatsGroupedByProject();
+
+    @Query("SELECT COUNT(t), SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END) " +
+            "FROM Task t WHERE t.projectId = :projectId")
+    List<Object[]> countStatsByProjectId(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + SEARCH, nativeQuery = true)
+    List<TaskSummary> searchSummaries(@Param("projectId") Long projectId, @Param("tsQuery") String tsQuery,
+                                      @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT " + DETAIL_COLUMNS + SEARCH, nativeQuery = true)
+    List<TaskDetails> searchDetails(@Param("projectId") Long projectId, @Param("tsQuery") String tsQuery,
+                                    @Param("limit") int limit, @Param("offset") long offset);
+
+    // The statements below modify a single row and return it in the same round trip. Each only
+    // matches while the task is still in the project whose ownership the caller checked
+
+    @Query(value = "UPDATE tasks t SET completed = NOT t.completed, version = t.version + 1, updated_at = now() " +
+            "WHERE t.id = :id AND t.project_id = :projectId RETURNING " + DETAIL_COLUMNS, nativeQuery = true)
+    Optional<TaskDetails> toggleCompleted(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    @Query(value = "UPDATE tasks t SET completed = :completed, version = t.version + 1, updated_at = now() " +
+            "WHERE t.id = :id AND t.project_id = :projectId AND t.completed <> :completed RETURNING " + DETAIL_COLUMNS,
+            nativeQuery = true)
+    Optional<TaskDetails> setCompleted(@Param("id") Long id, @Param("projectId") Long projectId,
+                                       @Param("completed") boolean completed);
+
+    @Query(value = "WITH previous AS (SELECT id, project_id FROM tasks " +
+            "WHERE id = :id AND project_id = :checkedProjectId FOR UPDATE) " +
+            "UPDATE tasks t SET title = :title, description = CAST(:description AS TEXT), " +
+            "due_date = CAST(:dueDate AS DATE), project_id = :projectId, " +
+            "version = t.version + 1, updated_at = now() " +
+            "FROM previous WHERE t.id = previous.id " +
+            "AND (CAST(:version AS BIGINT) IS NULL OR t.version = CAST(:version AS BIGINT)) " +
+            "RETURNING " + DETAIL_COLUMNS + ", previous.project_id AS \"previousProjectId\"", nativeQuery = true)
+    Optional<TaskUpdateResult> updateReturning(@Param("id") Long id,
+                                               @Param("checkedProjectId") Long checkedProjectId,
+                                               @Param("title") String title,
+                                               @Param("description") String description,
+                                               @Param("dueDate") LocalDate dueDate,
+                                               @Param("projectId") Long projectId,
+                                               @Param("version") Long version);
+
+    @Query(value = "DELETE FROM tasks t WHERE t.id = :id AND t.project_id = :projectId RETURNING " + SUMMARY_COLUMNS,
+            nativeQuery = true)
+    Optional<TaskSummary> deleteReturning(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    // Bounded chunk for cascade deletion; rows locked by user requests are skipped and retried later
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (" +
+            "SELECT id FROM tasks WHERE project_id = :projectId LIMIT :chunkSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") Long projectId, @Param("chunkSize") int chunkSize);
+
+    boolean existsByProjectId(Long projectId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.projectId AS projectId, " +
+            "t.dueDate AS dueDate, t.completed AS completed, t.createdAt AS createdAt, t.updatedAt AS updatedAt, " +
+            "t.version AS version " +
+            "FROM Task t WHERE t.projectId = :projectId ORDER BY t.id")
+    Stream<TaskDetails> streamByProjectId(@Param("projectId") Long projectId);
 }
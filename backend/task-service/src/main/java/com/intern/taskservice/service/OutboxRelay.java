@@ -0,0 +1,117 @@
+package com.intern.taskservice.service;
+
+import com.intern.common.client.InterServiceHttpClient;
+import com.intern.taskservice.dto.TaskChangeEvent;
+import com.intern.taskservice.model.OutboxEvent;
+import com.intern.taskservice.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Polls the task_outbox table and delivers committed events to project-service in batches.
+ * A batch is claimed in one short transaction, posted with no transaction open and marked
+ * published in a second one, so the HTTP call never holds row locks or a connection.
+ * Delivery is at-least-once: a failed batch is released and retried on the next run, a batch
+ * whose relay died is claimable again once its lease runs out, and project-service ignores
+ * snapshots older than the ones it already applied.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final String EVENTS_PATH = "/internal/projects/task-events";
+
+    private final OutboxEventRepository outboxRepository;
+    private final InterServiceHttpClient httpClient;
+
+    @Value("${project.service.url}")
+    private String projectServiceUrl;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    // Longer than the post timeout, so a live relay never loses its claim mid-batch
+    @Value("${outbox.relay.claim-lease-ms:30000}")
+    private long claimLeaseMs;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours;
+
+    private InterServiceHttpClient.Route route;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong lastPublishedId = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        // A failed batch is retried on the next run, so no retries within one
+        route = httpClient.route("task-events", projectServiceUrl, 5000, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public int relay() {
+        List<OutboxEvent> pending = new ArrayList<>(outboxRepository.claimPending(batchSize, claimLeaseMs));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        pending.sort(Comparator.comparing(OutboxEvent::getId));
+
+        List<Long> ids = pending.stream().map(OutboxEvent::getId).collect(Collectors.toList());
+        List<TaskChangeEvent> events = pending.stream()
+                .map(this::toEvent)
+                .collect(Collectors.toList());
+        try {
+            route.post(EVENTS_PATH, events, Map.class);
+        } catch (Exception e) {
+            failedBatches.incrementAndGet();
+            log.warn("Could not publish {} outbox event(s), will retry: {}", events.size(), e.getMessage());
+            outboxRepository.releaseClaims(ids);
+            return 0;
+        }
+
+        outboxRepository.markPublished(ids);
+        published.addAndGet(pending.size());
+        lastPublishedId.set(pending.get(pending.size() - 1).getId());
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge.interval-ms:3600000}")
+    public int purgePublished() {
+        int purged = outboxRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            log.info("Purged {} published outbox event(s)", purged);
+        }
+        return purged;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("pending", outboxRepository.countByPublishedAtIsNull());
+        metrics.put("published", published.get());
+        metrics.put("failedBatches", failedBatches.get());
+        metrics.put("lastPublishedId", lastPublishedId.get());
+        return metrics;
+    }
+
+    private TaskChangeEvent toEvent(OutboxEvent event) {
+        return new TaskChangeEvent(event.getId(), event.getEventType().name(), event.getTaskId(),
+                event.getProjectId(), event.getTotalTasks(), event.getCompletedTasks(),
+                event.getStatsVersion(), event.getCreatedAt());
+    }
+}
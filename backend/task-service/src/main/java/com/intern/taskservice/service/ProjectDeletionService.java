@@ -0,0 +1,188 @@
+package com.intern.taskservice.service;
+
+import com.intern.taskservice.client.ProjectOwnershipClient;
+import com.intern.taskservice.model.DeletionStatus;
+import com.intern.taskservice.model.ProjectDeletionJob;
+import com.intern.taskservice.repository.ProjectDeletionJobRepository;
+import com.intern.taskservice.repository.ProjectTaskStatsRepository;
+import com.intern.taskservice.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes the tasks of deleted projects in the background. Each chunk is a single set-based
+ * DELETE in its own short transaction, so no request waits on it and no lock is held for
+ * longer than one chunk. Failed jobs are retried with exponential backoff.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectDeletionService {
+
+    private final ProjectDeletionJobRepository jobRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectTaskStatsRepository statsRepository;
+    private final TaskService taskService;
+    private final ProjectOwnershipClient ownershipClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${deletion.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${deletion.lock-timeout-ms:2000}")
+    private int lockTimeoutMs;
+
+    @Value("${deletion.worker.jobs-per-run:10}")
+    private int jobsPerRun;
+
+    @Value("${deletion.worker.max-chunks-per-run:50}")
+    private int maxChunksPerRun;
+
+    @Value("${deletion.retry.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${deletion.retry.base-delay-ms:5000}")
+    private long retryBaseDelayMs;
+
+    @Value("${deletion.retry.max-delay-ms:600000}")
+    private long retryMaxDelayMs;
+
+    private TransactionTemplate transactionTemplate;
+    private final AtomicLong deletedTasks = new AtomicLong();
+    private final AtomicLong completedJobs = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    private enum ChunkResult { MORE, YIELD, DONE }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public void requestDeletion(Collection<Long> projectIds) {
+        for (Long projectId : projectIds) {
+            jobRepository.enqueue(projectId);
+            ownershipClient.forget(projectId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectDeletionJob getJob(Long projectId) {
+        return jobRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Deletion job not found"));
+    }
+
+    @Scheduled(fixedDelayString = "${deletion.worker.interval-ms:1000}")
+    public void runDueJobs() {
+        for (Long projectId : jobRepository.findDueProjectIds(jobsPerRun)) {
+            runJob(projectId);
+        }
+    }
+
+    private void runJob(Long projectId) {
+        try {
+            // Bounded per run so one huge project cannot monopolise the scheduler thread
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                if (transactionTemplate.execute(status -> deleteChunk(projectId)) != ChunkResult.MORE) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            failedAttempts.incrementAndGet();
+            transactionTemplate.executeWithoutResult(status -> recordFailure(projectId, e));
+        }
+    }
+
+    private ChunkResult deleteChunk(Long projectId) {
+        Optional<ProjectDeletionJob> locked = jobRepository.lockActive(projectId);
+        if (locked.isEmpty()) {
+            // Finished meanwhile, or another instance is working on it
+            return ChunkResult.DONE;
+        }
+
+        ProjectDeletionJob job = locked.get();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+
+        int deleted = taskRepository.deleteChunkByProjectId(projectId, chunkSize);
+        deletedTasks.addAndGet(deleted);
+        job.setDeletedTasks(job.getDeletedTasks() + deleted);
+        job.setStatus(DeletionStatus.RUNNING);
+        job.setUpdatedAt(now);
+        // Unfinished jobs are picked up by the next run
+        job.setNextAttemptAt(now);
+
+        if (deleted == chunkSize) {
+            return ChunkResult.MORE;
+        }
+        // Task inserts lock this row before checking for a deletion job (TaskService), so once it is
+        // held, every insert that missed the job has committed and is visible to the check below
+        statsRepository.insertIfMissing(projectId);
+        statsRepository.lockById(projectId);
+        if (taskRepository.existsByProjectId(projectId)) {
+            // Rows locked by in-flight requests, or inserted while the job ran; come back shortly
+            job.setNextAttemptAt(now.plus(Duration.ofMillis(retryBaseDelayMs)));
+            return ChunkResult.YIELD;
+        }
+
+        statsRepository.deleteAllByIdInBatch(List.of(projectId));
+        job.setStatus(DeletionStatus.COMPLETED);
+        job.setCompletedAt(now);
+        taskService.invalidateProject(projectId);
+        completedJobs.incrementAndGet();
+        log.info("Deleted {} task(s) of project {}", job.getDeletedTasks(), projectId);
+        return ChunkResult.DONE;
+    }
+
+    private void recordFailure(Long projectId, Exception e) {
+        jobRepository.findById(projectId).ifPresent(job -> {
+            int attempts = job.getAttempts() + 1;
+            LocalDateTime now = LocalDateTime.now();
+            job.setAttempts(attempts);
+            job.setLastError(e.getMessage());
+            job.setUpdatedAt(now);
+
+            if (attempts >= maxAttempts) {
+                job.setStatus(DeletionStatus.FAILED);
+                log.error("Giving up deleting tasks of project {} after {} attempts", projectId, attempts, e);
+            } else {
+                long delayMs = Math.min(retryBaseDelayMs << Math.min(attempts - 1, 20), retryMaxDelayMs);
+                job.setStatus(DeletionStatus.PENDING);
+                job.setNextAttemptAt(now.plus(Duration.ofMillis(delayMs)));
+                log.warn("Deleting tasks of project {} failed (attempt {}), retrying in {} ms: {}",
+                        projectId, attempts, delayMs, e.getMessage());
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("pendingJobs", jobRepository.countByStatus(DeletionStatus.PENDING)
+                + jobRepository.countByStatus(DeletionStatus.RUNNING));
+        metrics.put("failedJobs", jobRepository.countByStatus(DeletionStatus.FAILED));
+        metrics.put("completedJobs", completedJobs.get());
+        metrics.put("failedAttempts", failedAttempts.get());
+        metrics.put("deletedTasks", deletedTasks.get());
+        return metrics;
+    }
+}
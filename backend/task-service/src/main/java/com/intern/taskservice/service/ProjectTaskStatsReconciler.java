@@ -0,0 +1,121 @@
+package com.intern.taskservice.service;
+
+import com.intern.taskservice.model.ProjectTaskStats;
+import com.intern.taskservice.model.TaskEventType;
+import com.intern.taskservice.repository.OutboxEventRepository;
+import com.intern.taskservice.repository.ProjectTaskStatsRepository;
+import com.intern.taskservice.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Rebuilds the project_task_stats counters from the tasks table and reports drift.
+ * Runs once at startup (which also backfills counters for existing data) and then periodically.
+ * <p>
+ * The grouped count and the counters are read separately, so a mismatch between them is only
+ * a suspect. Each suspect is recounted in its own short transaction while holding its counters
+ * row lock, which every task write also takes, and only a confirmed difference is overwritten.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectTaskStatsReconciler {
+
+    private final TaskRepository taskRepository;
+    private final ProjectTaskStatsRepository statsRepository;
+    private final OutboxEventRepository outboxRepository;
+    private final TaskService taskService;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${stats.reconcile.interval-ms:3600000}",
+            initialDelayString = "${stats.reconcile.interval-ms:3600000}")
+    public int reconcile() {
+        Map<Long, long[]> counted = new HashMap<>();
+        for (Object[] row : taskRepository.countStatsGroupedByProject()) {
+            counted.put((Long) row[0], toCounts(row[1], row[2]));
+        }
+
+        Set<Long> suspects = new LinkedHashSet<>();
+        for (ProjectTaskStats stats : statsRepository.findAll()) {
+            long[] counts = counted.remove(stats.getProjectId());
+            if (counts == null) {
+                counts = new long[]{0L, 0L};
+            }
+            if (stats.getTotalTasks() != counts[0] || stats.getCompletedTasks() != counts[1]) {
+                suspects.add(stats.getProjectId());
+            }
+        }
+        // Projects with tasks but no counters row yet
+        suspects.addAll(counted.keySet());
+
+        int drifted = 0;
+        for (Long projectId : suspects) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> recount(projectId)))) {
+                drifted++;
+            }
+        }
+
+        if (drifted > 0) {
+            log.info("Reconciled task counters for {} project(s)", drifted);
+        }
+        return drifted;
+    }
+
+    private boolean recount(Long projectId) {
+        Optional<ProjectTaskStats> locked = statsRepository.lockById(projectId);
+        if (locked.isEmpty()) {
+            // No tasks left means the project was deleted since the grouped count
+            if (!taskRepository.existsByProjectId(projectId)) {
+                return false;
+            }
+            statsRepository.insertIfMissing(projectId);
+            locked = statsRepository.lockById(projectId);
+        }
+        ProjectTaskStats stats = locked.orElseThrow();
+        List<Object[]> rows = taskRepository.countStatsByProjectId(projectId);
+        long[] actual = rows.isEmpty() ? new long[]{0L, 0L} : toCounts(rows.get(0)[0], rows.get(0)[1]);
+        if (stats.getTotalTasks() == actual[0] && stats.getCompletedTasks() == actual[1]) {
+            return false;
+        }
+
+        log.warn("Task counters drifted for project {}: stored {}/{}, actual {}/{}",
+                projectId, stats.getCompletedTasks(), stats.getTotalTasks(), actual[1], actual[0]);
+        statsRepository.overwrite(projectId, actual[0], actual[1]);
+        outboxRepository.record(TaskEventType.STATS_RECONCILED.name(), null, projectId);
+        taskService.invalidateProject(projectId);
+        return true;
+    }
+
+    private static long[] toCounts(Object total, Object completed) {
+        return new long[]{
+                total != null ? ((Number) total).longValue() : 0L,
+                completed != null ? ((Number) completed).longValue() : 0L
+        };
+    }
+}
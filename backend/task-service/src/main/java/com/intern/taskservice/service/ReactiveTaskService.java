@@ -0,0 +1,55 @@
+package com.intern.taskservice.service;
+
+import com.intern.taskservice.dto.TaskResponse;
+import com.intern.taskservice.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Non-blocking counterparts of TaskService's read operations, returning the same shapes.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+
+    public Flux<TaskResponse> streamTasksByProject(Long projectId) {
+        return reactiveTaskRepository.streamByProjectId(projectId);
+    }
+
+    public Flux<TaskResponse> getTasksByProject(Long projectId, Long cursor, int limit) {
+        return reactiveTaskRepository.findPageByProjectId(projectId, cursor != null ? cursor : 0L, limit);
+    }
+
+    public Mono<Map<String, Object>> getProjectStats(Long projectId) {
+        return reactiveTaskRepository.findStats(projectId)
+                .map(counts -> TaskService.buildStats(counts[0], counts[1]))
+                .defaultIfEmpty(TaskService.buildStats(0, 0));
+    }
+
+    public Mono<Map<Long, Map<String, Object>>> getProjectStatsBatch(Collection<Long> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return Mono.just(new HashMap<>());
+        }
+
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(projectIds);
+        return reactiveTaskRepository.findStats(uniqueIds)
+                .collectMap(counts -> counts[0], counts -> TaskService.buildStats(counts[1], counts[2]))
+                .map(found -> {
+                    Map<Long, Map<String, Object>> statsByProject = new HashMap<>(found);
+                    // Projects without any task have no counters row yet
+                    uniqueIds.forEach(projectId -> statsByProject.putIfAbsent(projectId, TaskService.buildStats(0, 0)));
+                    return statsByProject;
+                });
+    }
+}
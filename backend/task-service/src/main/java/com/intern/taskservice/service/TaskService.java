@@ -1,97 +1,543 @@
 package com.intern.taskservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intern.common.cache.CacheRegistry;
+import com.intern.common.cache.ReadThroughCache;
+import com.intern.taskservice.client.ProjectOwnershipClient;
+import com.intern.taskservice.dto.TaskDetails;
+import com.intern.taskservice.dto.TaskOperation;
+import com.intern.taskservice.dto.TaskOperationResult;
+import com.intern.taskservice.dto.TaskOperationType;
+import com.intern.taskservice.dto.TaskPage;
 import com.intern.taskservice.dto.TaskRequest;
 import com.intern.taskservice.dto.TaskResponse;
+import com.intern.taskservice.dto.TaskSummary;
+import com.intern.taskservice.dto.TaskUpdateResult;
+import com.intern.taskservice.model.ProjectTaskStats;
 import com.intern.taskservice.model.Task;
+import com.intern.taskservice.model.TaskEventType;
+import com.intern.taskservice.repository.OutboxEventRepository;
+import com.intern.taskservice.repository.ProjectDeletionJobRepository;
+import com.intern.taskservice.repository.ProjectTaskStatsRepository;
 import com.intern.taskservice.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
+    private final ProjectTaskStatsRepository statsRepository;
+    private final OutboxEventRepository outboxRepository;
+    private final ProjectDeletionJobRepository deletionJobRepository;
+    private final ObjectMapper objectMapper;
+    private final CacheRegistry cacheRegistry;
+    private final ProjectOwnershipClient ownershipClient;
+    private final PlatformTransactionManager transactionManager;
 
-    public TaskResponse createTask(TaskRequest request) {
-        Task task = new Task();
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setProjectId(request.getProjectId());
-        task.setDueDate(request.getDueDate());
-        task.setCompleted(false);
+    @Value("${cache.tasks-by-project.max-entries:10000}")
+    private int tasksCacheMaxEntries;
 
-        task = taskRepository.save(task);
+    @Value("${cache.tasks-by-project.ttl-ms:60000}")
+    private long tasksCacheTtlMs;
 
-        return mapToResponse(task);
+    @Value("${cache.project-stats.max-entries:50000}")
+    private int statsCacheMaxEntries;
+
+    @Value("${cache.project-stats.ttl-ms:60000}")
+    private long statsCacheTtlMs;
+
+    // First page of each project's full task list, the view ProjectDetail loads
+    private ReadThroughCache<Long, TaskPage> tasksByProjectCache;
+    private ReadThroughCache<Long, Map<String, Object>> statsCache;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        tasksByProjectCache = cacheRegistry.create("tasksByProject", tasksCacheMaxEntries, tasksCacheTtlMs,
+                this::copyOf);
+        statsCache = cacheRegistry.create("projectStats", statsCacheMaxEntries, statsCacheTtlMs, Map::copyOf);
     }
 
-    public List<TaskResponse> getTasksByProject(Long projectId) {
-        return taskRepository.findByProjectId(projectId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Fails unless the user owns the project. Every caller runs this before its transaction
+     * starts, so a cold ownership lookup never holds a database connection or a row lock.
+     */
+    public void checkProjectAccess(Long projectId, Long userId) {
+        if (projectId == null || !ownershipClient.isOwner(projectId, userId)) {
+            throw new RuntimeException("Unauthorized access");
+        }
     }
 
-    public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+    /**
+     * Returns the task's project once the user is known to own it. Writes then only match the
+     * row while it is still in that project, so a concurrent move cannot slip past the check.
+     */
+    private Long checkTaskAccess(Long id, Long userId) {
+        Long projectId = taskRepository.findProjectIdById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
+        checkProjectAccess(projectId, userId);
+        return projectId;
+    }
 
-        return mapToResponse(task);
+    /**
+     * Fails if deletion of the project has been requested. Runs in the inserting transaction and
+     * first locks the project's stats row, which the deletion job also locks before its final
+     * check: either the insert commits before that check and the job keeps deleting, or the
+     * insert sees the job. The ownership cache of another instance may not have heard of the
+     * deletion yet, so this is what keeps tasks from being added to a project being deleted.
+     */
+    private void requireNotDeleted(Long projectId) {
+        // Checked before and after the lock, so a known deletion never leaves a stats row behind
+        if (!deletionJobRepository.existsById(projectId)) {
+            statsRepository.insertIfMissing(projectId);
+            statsRepository.lockById(projectId);
+            if (!deletionJobRepository.existsById(projectId)) {
+                return;
+            }
+        }
+        throw new RuntimeException("Project is being deleted");
     }
 
-    public TaskResponse updateTask(Long id, TaskRequest request) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+    public TaskResponse createTask(TaskRequest request, Long userId) {
+        checkProjectAccess(request.getProjectId(), userId);
 
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setDueDate(request.getDueDate());
+        return transactionTemplate.execute(status -> {
+            requireNotDeleted(request.getProjectId());
+            Task task = new Task();
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setProjectId(request.getProjectId());
+            task.setDueDate(request.getDueDate());
+            task.setCompleted(false);
 
-        task = taskRepository.save(task);
+            task = taskRepository.save(task);
+            statsRepository.applyDelta(task.getProjectId(), 1, 0);
+            recordEvent(TaskEventType.TASK_CREATED, task.getId(), task.getProjectId());
+            invalidateProject(task.getProjectId());
 
-        return mapToResponse(task);
+            return mapToResponse(task);
+        });
     }
 
-    public TaskResponse toggleTaskCompletion(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByProject(Long projectId, Long cursor, int limit, boolean summary) {
+        if (cursor == null && limit == DEFAULT_PAGE_SIZE && !summary) {
+            return tasksByProjectCache.get(projectId, () -> loadTasksByProject(projectId, null, limit, false));
+        }
+        return loadTasksByProject(projectId, cursor, limit, summary);
+    }
 
-        task.setCompleted(!task.getCompleted());
-        task = taskRepository.save(task);
+    private TaskPage loadTasksByProject(Long projectId, Long cursor, int limit, boolean summary) {
+        return toPage(taskRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(
+                projectId, afterId(cursor), pageOf(limit), viewType(summary)), limit);
+    }
 
-        return mapToResponse(task);
+    @Transactional(readOnly = true)
+    public void streamTasksByProject(Long projectId, OutputStream out) throws IOException {
+        try (Stream<TaskDetails> tasks = taskRepository.streamByProjectId(projectId)) {
+            Iterator<TaskDetails> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(mapToResponse(iterator.next())));
+                out.write('\n');
+            }
+        }
+        out.flush();
     }
 
-    public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
+    public TaskResponse getTaskById(Long id, Long userId) {
+        TaskDetails task = taskRepository.findProjectedById(id, TaskDetails.class)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
+        checkProjectAccess(task.getProjectId(), userId);
 
-        taskRepository.delete(task);
+        return mapToResponse(task);
     }
 
-    public List<TaskResponse> searchTasks(Long projectId, String query) {
-        return taskRepository.findByProjectIdAndTitleContainingIgnoreCase(projectId, query)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public TaskResponse updateTask(Long id, TaskRequest request, Long userId) {
+        Long checkedProjectId = checkTaskAccess(id, userId);
+        if (!checkedProjectId.equals(request.getProjectId())) {
+            checkProjectAccess(request.getProjectId(), userId);
+        }
+
+        return transactionTemplate.execute(status -> {
+            if (!checkedProjectId.equals(request.getProjectId())) {
+                requireNotDeleted(request.getProjectId());
+            }
+            TaskUpdateResult task = taskRepository.updateReturning(id, checkedProjectId, request.getTitle(),
+                            request.getDescription(), request.getDueDate(), request.getProjectId(), request.getVersion())
+                    .orElseThrow(() -> notFoundOrConflict(id));
+
+            if (!task.getPreviousProjectId().equals(task.getProjectId())) {
+                long completedDelta = task.getCompleted() ? 1 : 0;
+                statsRepository.applyDelta(task.getPreviousProjectId(), -1, -completedDelta);
+                statsRepository.applyDelta(task.getProjectId(), 1, completedDelta);
+                recordEvent(TaskEventType.TASK_MOVED, task.getId(), task.getPreviousProjectId());
+                recordEvent(TaskEventType.TASK_MOVED, task.getId(), task.getProjectId());
+                invalidateProject(task.getPreviousProjectId());
+            }
+            invalidateProject(task.getProjectId());
+
+            return mapToResponse(task);
+        });
     }
 
-    public List<TaskResponse> filterTasksByStatus(Long projectId, Boolean completed) {
-        return taskRepository.findByProjectIdAndCompleted(projectId, completed)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public TaskResponse toggleTaskCompletion(Long id, Long userId) {
+        Long checkedProjectId = checkTaskAccess(id, userId);
+
+        return transactionTemplate.execute(status -> {
+            TaskDetails task = taskRepository.toggleCompleted(id, checkedProjectId)
+                    .orElseThrow(() -> notFoundOrConflict(id));
+
+            statsRepository.applyDelta(task.getProjectId(), 0, task.getCompleted() ? 1 : -1);
+            recordEvent(TaskEventType.TASK_TOGGLED, task.getId(), task.getProjectId());
+            invalidateProject(task.getProjectId());
+
+            return mapToResponse(task);
+        });
+    }
+
+    public TaskResponse setTaskCompletion(Long id, boolean completed, Long userId) {
+        Long checkedProjectId = checkTaskAccess(id, userId);
+
+        Optional<TaskResponse> updated = transactionTemplate.execute(status ->
+                taskRepository.setCompleted(id, checkedProjectId, completed).map(task -> {
+                    statsRepository.applyDelta(task.getProjectId(), 0, completed ? 1 : -1);
+                    recordEvent(TaskEventType.TASK_TOGGLED, task.getId(), task.getProjectId());
+                    invalidateProject(task.getProjectId());
+                    return mapToResponse(task);
+                }));
+        // Otherwise missing, moved, or already in the requested state
+        return updated.orElseGet(() -> getTaskById(id, userId));
+    }
+
+    public void deleteTask(Long id, Long userId) {
+        Long checkedProjectId = checkTaskAccess(id, userId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            TaskSummary task = taskRepository.deleteReturning(id, checkedProjectId)
+                    .orElseThrow(() -> notFoundOrConflict(id));
+
+            statsRepository.applyDelta(task.getProjectId(), -1, task.getCompleted() ? -1 : 0);
+            recordEvent(TaskEventType.TASK_DELETED, task.getId(), task.getProjectId());
+            invalidateProject(task.getProjectId());
+        });
+    }
+
+    /**
+     * Records a STATS_RECONCILED snapshot of each project's counters in the outbox, for
+     * project-service's backfill of projects that have never received one. Bumping the version
+     * first makes the snapshot win over any event already delivered, and creates the counters
+     * row of a project without tasks.
+     */
+    @Transactional
+    public int publishStatsSnapshots(Collection<Long> projectIds) {
+        Set<Long> distinct = new HashSet<>(projectIds);
+        for (Long projectId : distinct) {
+            statsRepository.applyDelta(projectId, 0, 0);
+            recordEvent(TaskEventType.STATS_RECONCILED, null, projectId);
+        }
+        return distinct.size();
+    }
+
+    /**
+     * Writes the change to the outbox in the caller's transaction; OutboxRelay publishes it
+     * once committed. Must follow the counters update for the same project.
+     */
+    private void recordEvent(TaskEventType type, Long taskId, Long projectId) {
+        outboxRepository.record(type.name(), taskId, projectId);
+    }
+
+    public void invalidateProject(Long projectId) {
+        tasksByProjectCache.evict(projectId);
+        statsCache.evict(projectId);
+    }
+
+    private RuntimeException notFoundOrConflict(Long id) {
+        return taskRepository.existsById(id)
+                ? new RuntimeException("Task was modified by another request")
+                : new RuntimeException("Task not found");
+    }
+
+    /**
+     * Applies a list of operations in one transaction. Ownership of every project involved is
+     * resolved before it starts. Referenced tasks are loaded with a single query, inserts and
+     * updates are flushed as JDBC batches, deletes run as one statement and counter changes are
+     * applied once per project. Invalid items are reported individually without failing the
+     * rest of the batch. Once an item deletes a task, later items on it are refused, and no
+     * item returns the body of a task the batch deleted.
+     */
+    public List<TaskOperationResult> applyBatch(List<TaskOperation> operations, Long userId) {
+        Set<Long> referencedIds = operations.stream()
+                .map(TaskOperation::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> projectIds = new HashSet<>(referencedIds.isEmpty()
+                ? List.of() : taskRepository.findProjectIdsByIdIn(referencedIds));
+        operations.stream()
+                .map(TaskOperation::getProjectId)
+                .filter(Objects::nonNull)
+                .forEach(projectIds::add);
+        Set<Long> ownedProjectIds = projectIds.stream()
+                .filter(projectId -> ownershipClient.isOwner(projectId, userId))
+                .collect(Collectors.toSet());
+
+        return transactionTemplate.execute(status -> applyBatch(operations, referencedIds, ownedProjectIds));
+    }
+
+    private List<TaskOperationResult> applyBatch(List<TaskOperation> operations, Set<Long> referencedIds,
+                                                 Set<Long> ownedProjectIds) {
+        Map<Long, Task> tasksById = taskRepository.findAllById(referencedIds).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task));
+
+        // Projects that items add tasks to, locked in id order so concurrent batches cannot deadlock
+        Set<Long> deletingProjectIds = new HashSet<>();
+        operations.stream()
+                .filter(operation -> operation.getType() == TaskOperationType.CREATE
+                        || operation.getType() == TaskOperationType.UPDATE)
+                .map(TaskOperation::getProjectId)
+                .filter(ownedProjectIds::contains)
+                .distinct()
+                .sorted()
+                .forEach(projectId -> {
+                    try {
+                        requireNotDeleted(projectId);
+                    } catch (RuntimeException e) {
+                        deletingProjectIds.add(projectId);
+                    }
+                });
+
+        List<TaskOperationResult> results = new ArrayList<>(operations.size());
+        Task[] touched = new Task[operations.size()];
+        List<Task> created = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        Set<Long> deletedIds = new HashSet<>();
+        Map<Long, long[]> statsDeltas = new HashMap<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            TaskOperation operation = operations.get(index);
+            try {
+                Task task = applyOperation(operation, tasksById, deletedIds, statsDeltas, ownedProjectIds,
+                        deletingProjectIds);
+                touched[index] = task;
+                if (operation.getType() == TaskOperationType.CREATE) {
+                    created.add(task);
+                } else if (operation.getType() == TaskOperationType.DELETE) {
+                    deleted.add(task);
+                }
+                results.add(new TaskOperationResult(index, true, null, null));
+            } catch (RuntimeException e) {
+                results.add(new TaskOperationResult(index, false, null, e.getMessage()));
+            }
+        }
+
+        taskRepository.saveAll(created);
+        taskRepository.deleteAllInBatch(deleted);
+        taskRepository.flush();
+
+        statsDeltas.forEach((projectId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                statsRepository.applyDelta(projectId, delta[0], delta[1]);
+                // One snapshot per project rather than one event per operation
+                recordEvent(TaskEventType.TASKS_BATCH_APPLIED, null, projectId);
+            }
+        });
+
+        Set<Long> affectedProjects = new HashSet<>(statsDeltas.keySet());
+        for (int index = 0; index < operations.size(); index++) {
+            if (touched[index] != null) {
+                affectedProjects.add(touched[index].getProjectId());
+                if (!deletedIds.contains(touched[index].getId())) {
+                    results.get(index).setTask(mapToResponse(touched[index]));
+                }
+            }
+        }
+        affectedProjects.forEach(this::invalidateProject);
+
+        return results;
+    }
+
+    private Task applyOperation(TaskOperation operation, Map<Long, Task> tasksById, Set<Long> deletedIds,
+                                Map<Long, long[]> statsDeltas, Set<Long> ownedProjectIds,
+                                Set<Long> deletingProjectIds) {
+        if (operation.getType() == TaskOperationType.CREATE) {
+            if (operation.getTitle() == null || operation.getTitle().isBlank()) {
+                throw new RuntimeException("Title is required");
+            }
+            if (operation.getProjectId() == null) {
+                throw new RuntimeException("Project ID is required");
+            }
+            requireOwned(operation.getProjectId(), ownedProjectIds);
+            requireNotDeleting(operation.getProjectId(), deletingProjectIds);
+
+            Task task = new Task();
+            task.setTitle(operation.getTitle());
+            task.setDescription(operation.getDescription());
+            task.setProjectId(operation.getProjectId());
+            task.setDueDate(operation.getDueDate());
+            task.setCompleted(false);
+            addStatsDelta(statsDeltas, task.getProjectId(), 1, 0);
+            return task;
+        }
+
+        if (deletedIds.contains(operation.getId())) {
+            throw new RuntimeException("Task was deleted earlier in this batch");
+        }
+        Task task = operation.getId() != null ? tasksById.get(operation.getId()) : null;
+        if (task == null) {
+            throw new RuntimeException("Task not found");
+        }
+        // Checked before the managed entity is touched, since a failed item does not roll back.
+        // A task moved since ownership was resolved is refused rather than looked up again here.
+        requireOwned(task.getProjectId(), ownedProjectIds);
+        if (operation.getType() == TaskOperationType.UPDATE && operation.getProjectId() != null
+                && !operation.getProjectId().equals(task.getProjectId())) {
+            requireOwned(operation.getProjectId(), ownedProjectIds);
+            requireNotDeleting(operation.getProjectId(), deletingProjectIds);
+        }
+
+        if (operation.getVersion() != null && !operation.getVersion().equals(task.getVersion())) {
+            throw new RuntimeException("Task was modified by another request");
+        }
+
+        switch (operation.getType()) {
+            case UPDATE -> {
+                if (operation.getTitle() == null || operation.getTitle().isBlank()) {
+                    throw new RuntimeException("Title is required");
+                }
+                task.setTitle(operation.getTitle());
+                task.setDescription(operation.getDescription());
+                task.setDueDate(operation.getDueDate());
+                if (operation.getProjectId() != null && !operation.getProjectId().equals(task.getProjectId())) {
+                    long completed = task.getCompleted() ? 1 : 0;
+                    addStatsDelta(statsDeltas, task.getProjectId(), -1, -completed);
+                    addStatsDelta(statsDeltas, operation.getProjectId(), 1, completed);
+                    task.setProjectId(operation.getProjectId());
+                }
+            }
+            case TOGGLE -> {
+                task.setCompleted(!task.getCompleted());
+                addStatsDelta(statsDeltas, task.getProjectId(), 0, task.getCompleted() ? 1 : -1);
+            }
+            case DELETE -> {
+                deletedIds.add(task.getId());
+                addStatsDelta(statsDeltas, task.getProjectId(), -1, task.getCompleted() ? -1 : 0);
+            }
+            default -> throw new RuntimeException("Unsupported operation");
+        }
+        return task;
+    }
+
+    private void requireOwned(Long projectId, Set<Long> ownedProjectIds) {
+        if (!ownedProjectIds.contains(projectId)) {
+            throw new RuntimeException("Unauthorized access");
+        }
+    }
+
+    private void requireNotDeleting(Long projectId, Set<Long> deletingProjectIds) {
+        if (deletingProjectIds.contains(projectId)) {
+            throw new RuntimeException("Project is being deleted");
+        }
+    }
+
+    private void addStatsDelta(Map<Long, long[]> statsDeltas, Long projectId, long totalDelta, long completedDelta) {
+        long[] delta = statsDeltas.computeIfAbsent(projectId, id -> new long[2]);
+        delta[0] += totalDelta;
+        delta[1] += completedDelta;
     }
 
+    /**
+     * Ranked full-text search over title and description with prefix matching.
+     * Results are ordered by relevance, so the cursor here is the offset of the next page.
+     */
+    @Transactional(readOnly = true)
+    public TaskPage searchTasks(Long projectId, String query, Long cursor, int limit, boolean summary) {
+        String tsQuery = SearchQueryParser.toPrefixTsQuery(query);
+        if (tsQuery == null) {
+            return new TaskPage(new ArrayList<>(), null);
+        }
+
+        long offset = cursor != null ? cursor : 0L;
+        List<? extends TaskSummary> tasks = summary
+                ? taskRepository.searchSummaries(projectId, tsQuery, limit + 1, offset)
+                : taskRepository.searchDetails(projectId, tsQuery, limit + 1, offset);
+
+        TaskPage page = toPage(tasks, limit);
+        page.setNextCursor(page.getNextCursor() != null ? offset + limit : null);
+        return page;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage filterTasksByStatus(Long projectId, Boolean completed, Long cursor, int limit, boolean summary) {
+        return toPage(taskRepository.findByProjectIdAndCompletedAndIdGreaterThanOrderByIdAsc(
+                projectId, completed, afterId(cursor), pageOf(limit), viewType(summary)), limit);
+    }
+
+    @Transactional(readOnly = true)
     public Map<String, Object> getProjectStats(Long projectId) {
-        long totalTasks = taskRepository.countByProjectId(projectId);
-        long completedTasks = taskRepository.countByProjectIdAndCompleted(projectId, true);
+        return statsCache.get(projectId, () -> statsRepository.findById(projectId)
+                .map(stats -> buildStats(stats.getTotalTasks(), stats.getCompletedTasks()))
+                .orElseGet(() -> buildStats(0, 0)));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Object>> getProjectStatsBatch(Collection<Long> projectIds) {
+        Map<Long, Map<String, Object>> statsByProject = new HashMap<>();
+        if (projectIds == null || projectIds.isEmpty()) {
+            return statsByProject;
+        }
+
+        // Serve what the cache has, then load every miss with one query
+        Set<Long> missing = new HashSet<>();
+        for (Long projectId : new HashSet<>(projectIds)) {
+            Map<String, Object> stats = statsCache.getIfPresent(projectId);
+            if (stats != null) {
+                statsByProject.put(projectId, stats);
+            } else {
+                missing.add(projectId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (ProjectTaskStats stats : statsRepository.findAllById(missing)) {
+                statsByProject.put(stats.getProjectId(), buildStats(stats.getTotalTasks(), stats.getCompletedTasks()));
+            }
+            for (Long projectId : missing) {
+                // Projects without any task have no counters row yet
+                statsByProject.putIfAbsent(projectId, buildStats(0, 0));
+                statsCache.put(projectId, statsByProject.get(projectId));
+            }
+        }
+
+        return statsByProject;
+    }
+
+    static Map<String, Object> buildStats(long totalTasks, long completedTasks) {
         double progressPercentage = totalTasks > 0 ? (completedTasks * 100.0) / totalTasks : 0.0;
 
         Map<String, Object> stats = new HashMap<>();
@@ -102,6 +548,40 @@ public class TaskService {
         return stats;
     }
 
+    private Long afterId(Long cursor) {
+        return cursor != null ? cursor : 0L;
+    }
+
+    private Pageable pageOf(int limit) {
+        // One extra row tells whether another page follows
+        return PageRequest.of(0, limit + 1);
+    }
+
+    private Class<? extends TaskSummary> viewType(boolean summary) {
+        return summary ? TaskSummary.class : TaskDetails.class;
+    }
+
+    private TaskPage toPage(List<? extends TaskSummary> tasks, int limit) {
+        boolean hasMore = tasks.size() > limit;
+        List<? extends TaskSummary> pageTasks = hasMore ? tasks.subList(0, limit) : tasks;
+
+        List<TaskResponse> responses = pageTasks.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        Long nextCursor = hasMore ? pageTasks.get(pageTasks.size() - 1).getId() : null;
+
+        return new TaskPage(responses, nextCursor);
+    }
+
+    private TaskPage copyOf(TaskPage page) {
+        List<TaskResponse> tasks = page.getTasks().stream()
+                .map(task -> new TaskResponse(task.getId(), task.getTitle(), task.getDescription(),
+                        task.getProjectId(), task.getDueDate(), task.getCompleted(), task.getCreatedAt(),
+                        task.getUpdatedAt(), task.getVersion()))
+                .toList();
+        return new TaskPage(tasks, page.getNextCursor());
+    }
+
     private TaskResponse mapToResponse(Task task) {
         TaskResponse response = new TaskResponse();
         response.setId(task.getId());
@@ -112,6 +592,24 @@ public class TaskService {
         response.setCompleted(task.getCompleted());
         response.setCreatedAt(task.getCreatedAt());
         response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
+
+        return response;
+    }
+
+    private TaskResponse mapToResponse(TaskSummary task) {
+        TaskResponse response = new TaskResponse();
+        response.setId(task.getId());
+        response.setTitle(task.getTitle());
+        if (task instanceof TaskDetails details) {
+            response.setDescription(details.getDescription());
+        }
+        response.setProjectId(task.getProjectId());
+        response.setDueDate(task.getDueDate());
+        response.setCompleted(task.getCompleted());
+        response.setCreatedAt(task.getCreatedAt());
+        response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
 
         return response;
     }
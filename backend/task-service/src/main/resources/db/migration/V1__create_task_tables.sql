@@ -0,0 +1,59 @@
+-- Matches the tables Hibernate and the former startup initializer used to create, so existing
+-- databases pass through unchanged
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    project_id  BIGINT NOT NULL,
+    due_date    DATE,
+    completed   BOOLEAN NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    version     BIGINT DEFAULT 0
+);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0;
+
+-- Full-text search column generated by Postgres, never written by the application
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+
+-- Pooled id sequence (allocationSize 50); never hand out ids that already exist
+CREATE SEQUENCE IF NOT EXISTS task_id_seq INCREMENT BY 50;
+SELECT setval('task_id_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM tasks),
+    (SELECT last_value FROM task_id_seq)));
+
+CREATE TABLE IF NOT EXISTS project_task_stats (
+    project_id      BIGINT PRIMARY KEY,
+    total_tasks     BIGINT NOT NULL,
+    completed_tasks BIGINT NOT NULL,
+    version         BIGINT NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP(6)
+);
+ALTER TABLE project_task_stats ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type      VARCHAR(32) NOT NULL,
+    task_id         BIGINT,
+    project_id      BIGINT NOT NULL,
+    total_tasks     BIGINT NOT NULL,
+    completed_tasks BIGINT NOT NULL,
+    stats_version   BIGINT NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    published_at    TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS project_deletion_jobs (
+    project_id      BIGINT PRIMARY KEY,
+    status          VARCHAR(16) NOT NULL,
+    deleted_tasks   BIGINT NOT NULL,
+    attempts        INTEGER NOT NULL,
+    last_error      TEXT,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    completed_at    TIMESTAMP(6)
+);
@@ -0,0 +1,19 @@
+-- Keyset pages per project (project_id = ? AND id > ? ORDER BY id), streaming and chunked cascade
+-- deletes. The summary view's columns are included so list pages can be answered from the index.
+DROP INDEX IF EXISTS idx_tasks_project_id;
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id_covering ON tasks (project_id, id)
+    INCLUDE (title, due_date, completed, created_at, updated_at, version);
+
+-- Status filter pages (project_id = ? AND completed = ? AND id > ? ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_tasks_project_completed ON tasks (project_id, completed, id);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- The relay only ever scans unpublished events, and the purge only published ones
+CREATE INDEX IF NOT EXISTS idx_task_outbox_pending ON task_outbox (id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_task_outbox_published_at ON task_outbox (published_at)
+    WHERE published_at IS NOT NULL;
+
+-- Deletion worker picks due jobs that are still active
+CREATE INDEX IF NOT EXISTS idx_project_deletion_jobs_due ON project_deletion_jobs (next_attempt_at)
+    WHERE status IN ('PENDING', 'RUNNING');
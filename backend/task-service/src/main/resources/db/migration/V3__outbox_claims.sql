@@ -0,0 +1,3 @@
+-- The relay claims a batch with a lease instead of holding row locks while it posts the batch
+-- to project-service. A lease that runs out (relay crashed mid-batch) makes the rows claimable again.
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP(6);
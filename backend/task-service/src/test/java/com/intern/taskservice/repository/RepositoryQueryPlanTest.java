@@ -0,0 +1,173 @@
+package com.intern.taskservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks the plan of every TaskRepository query (and the outbox relay's) against the schema the
+ * migrations create. Sequential scans are disabled for the session, so a "Seq Scan" in a plan
+ * means no index can serve that query shape. Native queries are read from their @Query
+ * annotations, so they cannot drift from the repository; derived and JPQL queries are written
+ * out as the SQL Hibernate generates for them.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final Pattern PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+    private static final Map<String, String> PARAMETER_VALUES = Map.ofEntries(
+            Map.entry("id", "42"),
+            Map.entry("projectId", "7"),
+            Map.entry("checkedProjectId", "7"),
+            Map.entry("completed", "true"),
+            Map.entry("title", "'title'"),
+            Map.entry("description", "'description'"),
+            Map.entry("dueDate", "'2026-01-01'"),
+            Map.entry("version", "3"),
+            Map.entry("tsQuery", "'task:*'"),
+            Map.entry("limit", "20"),
+            Map.entry("offset", "0"),
+            Map.entry("chunkSize", "500"),
+            Map.entry("eventType", "'TASK_CREATED'"),
+            Map.entry("taskId", "42"),
+            Map.entry("leaseMs", "30000"));
+
+    private static final String SUMMARY_SELECT = "SELECT t.id, t.title, t.project_id, t.due_date, t.completed, "
+            + "t.created_at, t.updated_at, t.version FROM tasks t ";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .table("flyway_history_task")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tasks (id, title, description, project_id, due_date, completed, "
+                    + "created_at, updated_at, version) "
+                    + "SELECT g, 'task ' || g, 'description ' || g, g % 500, current_date, g % 3 = 0, now(), now(), 0 "
+                    + "FROM generate_series(1, 50000) g");
+            statement.execute("INSERT INTO project_task_stats (project_id, total_tasks, completed_tasks, version) "
+                    + "SELECT g, 100, 33, 1 FROM generate_series(0, 499) g");
+            statement.execute("INSERT INTO task_outbox (event_type, project_id, total_tasks, completed_tasks, "
+                    + "stats_version, created_at, published_at) "
+                    + "SELECT 'TASK_CREATED', g % 500, 1, 0, g, now(), CASE WHEN g % 10 = 0 THEN NULL ELSE now() END "
+                    + "FROM generate_series(1, 20000) g");
+            statement.execute("ANALYZE");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("findProjectedById", "SELECT * FROM tasks t WHERE t.id = 42"),
+                Arguments.of("findProjectIdById", "SELECT t.project_id FROM tasks t WHERE t.id = 42"),
+                Arguments.of("findProjectIdsByIdIn",
+                        "SELECT DISTINCT t.project_id FROM tasks t WHERE t.id IN (1, 2, 3)"),
+                Arguments.of("findByProjectIdAndIdGreaterThanOrderByIdAsc (summary)",
+                        SUMMARY_SELECT + "WHERE t.project_id = 7 AND t.id > 0 ORDER BY t.id LIMIT 501"),
+                Arguments.of("findByProjectIdAndIdGreaterThanOrderByIdAsc (details)",
+                        "SELECT * FROM tasks t WHERE t.project_id = 7 AND t.id > 0 ORDER BY t.id LIMIT 501"),
+                Arguments.of("findByProjectIdAndCompletedAndIdGreaterThanOrderByIdAsc",
+                        SUMMARY_SELECT + "WHERE t.project_id = 7 AND t.completed = true AND t.id > 0 "
+                                + "ORDER BY t.id LIMIT 501"),
+                Arguments.of("countByProjectId", "SELECT count(t.id) FROM tasks t WHERE t.project_id = 7"),
+                Arguments.of("countByProjectIdAndCompleted",
+                        "SELECT count(t.id) FROM tasks t WHERE t.project_id = 7 AND t.completed = true"),
+                Arguments.of("existsByProjectId", "SELECT t.id FROM tasks t WHERE t.project_id = 7 LIMIT 1"),
+                Arguments.of("countStatsGroupedByProject", "SELECT t.project_id, count(t.id), "
+                        + "sum(CASE WHEN t.completed = true THEN 1 ELSE 0 END) FROM tasks t GROUP BY t.project_id"),
+                Arguments.of("countStatsByProjectId", "SELECT count(t.id), "
+                        + "sum(CASE WHEN t.completed = true THEN 1 ELSE 0 END) FROM tasks t WHERE t.project_id = 7"),
+                Arguments.of("streamByProjectId", "SELECT * FROM tasks t WHERE t.project_id = 7 ORDER BY t.id"),
+                nativeQuery(TaskRepository.class, "searchSummaries"),
+                nativeQuery(TaskRepository.class, "searchDetails"),
+                nativeQuery(TaskRepository.class, "toggleCompleted"),
+                nativeQuery(TaskRepository.class, "setCompleted"),
+                nativeQuery(TaskRepository.class, "updateReturning"),
+                nativeQuery(TaskRepository.class, "deleteReturning"),
+                nativeQuery(TaskRepository.class, "deleteChunkByProjectId"),
+                nativeQuery(ProjectTaskStatsRepository.class, "lockById"),
+                nativeQuery(OutboxEventRepository.class, "record"),
+                nativeQuery(OutboxEventRepository.class, "claimPending"),
+                Arguments.of("OutboxEventRepository.countByPublishedAtIsNull",
+                        "SELECT count(e.id) FROM task_outbox e WHERE e.published_at IS NULL"),
+                Arguments.of("OutboxEventRepository.deletePublishedBefore",
+                        "DELETE FROM task_outbox e WHERE e.published_at < now() - interval '1 day'"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void planUsesAnIndex(String method, String sql) throws SQLException {
+        String plan = explain(sql);
+        assertFalse(plan.contains("Seq Scan"), method + " falls back to a sequential scan:\n" + plan);
+    }
+
+    private static Arguments nativeQuery(Class<?> repository, String methodName) {
+        Method method = Arrays.stream(repository.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No method " + methodName));
+        String sql = method.getAnnotation(Query.class).value();
+        return Arguments.of(repository.getSimpleName() + "." + methodName, bind(sql));
+    }
+
+    private static String bind(String sql) {
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String value = PARAMETER_VALUES.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("No test value for :" + matcher.group(1));
+            }
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(bound);
+        return bound.toString();
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
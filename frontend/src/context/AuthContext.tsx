@@ -1,9 +1,13 @@
 "use client"
 
 import type React from "react"
-import { createContext, useState, useContext, useEffect } from "react"
+import { createContext, useState, useContext, useEffect, useCallback } from "react"
 import axios from "axios"
 
+const AUTH_URL = "http://localhost:8081/api/auth"
+// Refresh this long before the access token expires
+const REFRESH_MARGIN_MS = 30000
+
 interface User {
   userId: number
   email: string
@@ -21,11 +25,107 @@ interface AuthContextType {
 
 const AuthContext = createContext<AuthContextType | undefined>(undefined)
 
+interface AuthPayload {
+  token: string
+  refreshToken: string
+  expiresIn: number
+  userId: number
+  email: string
+  name: string
+}
+
+const storeSession = (data: AuthPayload): User => {
+  const userData = { userId: data.userId, email: data.email, name: data.name }
+  localStorage.setItem("token", data.token)
+  localStorage.setItem("refreshToken", data.refreshToken)
+  localStorage.setItem("tokenExpiresAt", String(Date.now() + data.expiresIn * 1000))
+  localStorage.setItem("user", JSON.stringify(userData))
+  return userData
+}
+
+const clearSession = () => {
+  localStorage.removeItem("token")
+  localStorage.removeItem("refreshToken")
+  localStorage.removeItem("tokenExpiresAt")
+  localStorage.removeItem("user")
+}
+
+// One refresh at a time; concurrent requests wait for the same rotation
+let pendingRefresh: Promise<AuthPayload> | null = null
+
+const refreshSession = (): Promise<AuthPayload> => {
+  if (!pendingRefresh) {
+    const refreshToken = localStorage.getItem("refreshToken")
+    pendingRefresh = (refreshToken
+      ? axios.post(`${AUTH_URL}/refresh`, { refreshToken }).then((response) => {
+          storeSession(response.data)
+          return response.data as AuthPayload
+        })
+      : Promise.reject(new Error("No refresh token"))
+    ).finally(() => {
+      pendingRefresh = null
+    })
+  }
+  return pendingRefresh
+}
+
+const isAuthCall = (url?: string) => !!url && url.startsWith(AUTH_URL)
+
 export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children }) => {
   const [user, setUser] = useState<User | null>(null)
   const [token, setToken] = useState<string | null>(localStorage.getItem("token"))
   const [isAuthenticated, setIsAuthenticated] = useState(false)
 
+  const endSession = useCallback(() => {
+    clearSession()
+    setToken(null)
+    setUser(null)
+    setIsAuthenticated(false)
+  }, [])
+
+  // Keeps short-lived access tokens fresh: refreshes before expiry, and once more on a 401
+  useEffect(() => {
+    const requestInterceptor = axios.interceptors.request.use(async (config) => {
+      if (isAuthCall(config.url) || !config.headers?.Authorization) {
+        return config
+      }
+      const expiresAt = Number(localStorage.getItem("tokenExpiresAt") || 0)
+      if (expiresAt && expiresAt - Date.now() < REFRESH_MARGIN_MS) {
+        try {
+          const data = await refreshSession()
+          setToken(data.token)
+        } catch {
+          endSession()
+          return Promise.reject(new axios.CanceledError("Session expired"))
+        }
+      }
+      config.headers.Authorization = `Bearer ${localStorage.getItem("token")}`
+      return config
+    })
+
+    const responseInterceptor = axios.interceptors.response.use(undefined, async (error) => {
+      const config = error.config
+      if (error.response?.status !== 401 || !config || isAuthCall(config.url) || config._retried) {
+        return Promise.reject(error)
+      }
+      config._retried = true
+      try {
+        const data = await refreshSession()
+        setToken(data.token)
+        config.headers.Authorization = `Bearer ${data.token}`
+        return axios(config)
+      } catch {
+        endSession()
+        return Promise.reject(error)
+      }
+    })
+
+    return () => {
+      axios.interceptors.request.eject(requestInterceptor)
+      axios.interceptors.response.eject(responseInterceptor)
+    }
+  }, [endSession])
+
   useEffect(() => {
     if (token) {
       const userData = localStorage.getItem("user")
@@ -37,46 +137,39 @@ export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children
   }, [token])
 
   const login = async (email: string, password: string) => {
-    const response = await axios.post("http://localhost:8081/api/auth/login", {
+    const response = await axios.post(`${AUTH_URL}/login`, {
       email,
       password,
     })
 
-    const { token: authToken, userId, email: userEmail, name } = response.data
-    const userData = { userId, email: userEmail, name }
+    const userData = storeSession(response.data)
 
-    localStorage.setItem("token", authToken)
-    localStorage.setItem("user", JSON.stringify(userData))
-
-    setToken(authToken)
+    setToken(response.data.token)
     setUser(userData)
     setIsAuthenticated(true)
   }
 
   const register = async (name: string, email: string, password: string) => {
-    const response = await axios.post("http://localhost:8081/api/auth/register", {
+    const response = await axios.post(`${AUTH_URL}/register`, {
       name,
       email,
       password,
     })
 
-    const { token: authToken, userId, email: userEmail, name: userName } = response.data
-    const userData = { userId, email: userEmail, name: userName }
-
-    localStorage.setItem("token", authToken)
-    localStorage.setItem("user", JSON.stringify(userData))
+    const userData = storeSession(response.data)
 
-    setToken(authToken)
+    setToken(response.data.token)
     setUser(userData)
     setIsAuthenticated(true)
   }
 
   const logout = () => {
-    localStorage.removeItem("token")
-    localStorage.removeItem("user")
-    setToken(null)
-    setUser(null)
-    setIsAuthenticated(false)
+    const refreshToken = localStorage.getItem("refreshToken")
+    if (refreshToken) {
+      // Revokes the session server-side; the local session ends regardless
+      axios.post(`${AUTH_URL}/logout`, { refreshToken }).catch(() => {})
+    }
+    endSession()
   }
 
   return (
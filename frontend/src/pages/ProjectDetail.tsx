@@ -1,7 +1,7 @@
 "use client"
 
 import type React from "react"
-import { useState, useEffect } from "react"
+import { useState, useEffect, useRef } from "react"
 import { useParams, useNavigate } from "react-router-dom"
 import { useAuth } from "../context/AuthContext"
 import axios from "axios"
@@ -34,6 +34,10 @@ const ProjectDetail: React.FC = () => {
   const [tasks, setTasks] = useState<Task[]>([])
   const [filteredTasks, setFilteredTasks] = useState<Task[]>([])
   const [loading, setLoading] = useState(true)
+  // Cursor of the next page of tasks; null once the last page is loaded
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [loadingMore, setLoadingMore] = useState(false)
+  const loadMoreRef = useRef<HTMLDivElement>(null)
   const [searchQuery, setSearchQuery] = useState("")
   const [filterStatus, setFilterStatus] = useState<"all" | "active" | "completed">("all")
   const [showCreateModal, setShowCreateModal] = useState(false)
@@ -78,13 +82,18 @@ const ProjectDetail: React.FC = () => {
     }
   }
 
+  // Pages come in the server's default size; X-Next-Cursor is present while more remain
+  const fetchTaskPage = (cursor?: string) =>
+    axios.get(`http://localhost:8083/api/tasks/project/${id}`, {
+      headers: { Authorization: `Bearer ${token}` },
+      params: cursor ? { cursor } : undefined,
+    })
+
   const fetchTasks = async () => {
     try {
-      const response = await axios.get(`http://localhost:8083/api/tasks/project/${id}`, {
-        headers: { Authorization: `Bearer ${token}` },
-      })
+      const response = await fetchTaskPage()
       setTasks(response.data)
-      setFilteredTasks(response.data)
+      setNextCursor(response.headers["x-next-cursor"] ?? null)
     } catch (err) {
       console.error("Failed to fetch tasks", err)
     } finally {
@@ -92,12 +101,40 @@ const ProjectDetail: React.FC = () => {
     }
   }
 
+  const fetchMoreTasks = async () => {
+    if (!nextCursor || loadingMore) return
+    setLoadingMore(true)
+    try {
+      const response = await fetchTaskPage(nextCursor)
+      setTasks((loaded) => [...loaded, ...response.data])
+      setNextCursor(response.headers["x-next-cursor"] ?? null)
+    } catch (err) {
+      console.error("Failed to fetch more tasks", err)
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
+  // Loads the next page when the end of the list scrolls into view. Observing again after
+  // every page keeps loading while the marker stays visible, e.g. under a narrow filter.
+  useEffect(() => {
+    const marker = loadMoreRef.current
+    if (!marker || !nextCursor || loadingMore) return
+    const observer = new IntersectionObserver((entries) => {
+      if (entries[0].isIntersecting) {
+        fetchMoreTasks()
+      }
+    })
+    observer.observe(marker)
+    return () => observer.disconnect()
+  }, [nextCursor, loadingMore, tasks])
+
   const handleCreateTask = async (e: React.FormEvent) => {
     e.preventDefault()
     setError("")
 
     try {
-      await axios.post(
+      const response = await axios.post(
         "http://localhost:8083/api/tasks",
         {
           title,
@@ -114,7 +151,10 @@ const ProjectDetail: React.FC = () => {
       setDescription("")
       setDueDate("")
       setShowCreateModal(false)
-      fetchTasks()
+      // New tasks sort last, so they join the list once its last page is loaded
+      if (!nextCursor) {
+        setTasks((loaded) => [...loaded, response.data])
+      }
       fetchProject()
     } catch (err: any) {
       setError(err.response?.data?.message || "Failed to create task")
@@ -128,7 +168,7 @@ const ProjectDetail: React.FC = () => {
     if (!editingTask) return
 
     try {
-      await axios.put(
+      const response = await axios.put(
         `http://localhost:8083/api/tasks/${editingTask.id}`,
         {
           title,
@@ -146,7 +186,8 @@ const ProjectDetail: React.FC = () => {
       setDueDate("")
       setEditingTask(null)
       setShowEditModal(false)
-      fetchTasks()
+      // Updated in place so the pages loaded so far stay loaded
+      setTasks((loaded) => loaded.map((task) => (task.id === response.data.id ? response.data : task)))
       fetchProject()
     } catch (err: any) {
       setError(err.response?.data?.message || "Failed to update task")
@@ -155,10 +196,10 @@ const ProjectDetail: React.FC = () => {
 
   const handleToggleTask = async (taskId: number) => {
     try {
-      await axios.patch(`http://localhost:8083/api/tasks/${taskId}/toggle`, null, {
+      const response = await axios.patch(`http://localhost:8083/api/tasks/${taskId}/toggle`, null, {
         headers: { Authorization: `Bearer ${token}` },
       })
-      fetchTasks()
+      setTasks((loaded) => loaded.map((task) => (task.id === taskId ? response.data : task)))
       fetchProject()
     } catch (err) {
       console.error("Failed to toggle task", err)
@@ -172,7 +213,7 @@ const ProjectDetail: React.FC = () => {
       await axios.delete(`http://localhost:8083/api/tasks/${taskId}`, {
         headers: { Authorization: `Bearer ${token}` },
       })
-      fetchTasks()
+      setTasks((loaded) => loaded.filter((task) => task.id !== taskId))
       fetchProject()
     } catch (err) {
       console.error("Failed to delete task", err)
@@ -538,6 +579,10 @@ const ProjectDetail: React.FC = () => {
             ))}
           </div>
         )}
+        <div ref={loadMoreRef} style={{ height: "1px" }} />
+        {loadingMore && (
+          <div style={{ textAlign: "center", padding: "1rem", color: "#a0a0a0" }}>Loading more tasks...</div>
+        )}
       </main>
 
       {/* Create Task Modal */}
@@ -0,0 +1,92 @@
+// k6 scenario that raises the request rate on all three services at once, so they compete for
+// the shared Postgres, and samples each service's connection pool while it runs.
+// A service saturates where its pool "waitingThreads" and "averageWaitMs" start climbing while
+// "active" sits at "max"; "timeouts" counts requests that gave up after connection-timeout.
+//   k6 run -e AUTH_URL=http://localhost:8081 -e PROJECT_URL=http://localhost:8082 \
+//          -e TASK_URL=http://localhost:8083 -e INTERNAL_API_TOKEN=... loadtest/pool-saturation.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const AUTH_URL = __ENV.AUTH_URL || 'http://localhost:8081';
+const PROJECT_URL = __ENV.PROJECT_URL || 'http://localhost:8082';
+const TASK_URL = __ENV.TASK_URL || 'http://localhost:8083';
+// /internal/metrics requires the services' shared internal token
+const INTERNAL_HEADERS = { 'X-Internal-Token': __ENV.INTERNAL_API_TOKEN || '' };
+
+function ramp(exec, maxRate) {
+  return {
+    executor: 'ramping-arrival-rate',
+    exec,
+    startRate: 10,
+    timeUnit: '1s',
+    preAllocatedVUs: 50,
+    maxVUs: 1000,
+    stages: [
+      { duration: '1m', target: maxRate / 4 },
+      { duration: '1m', target: maxRate / 2 },
+      { duration: '1m', target: maxRate },
+      { duration: '30s', target: maxRate },
+    ],
+  };
+}
+
+export const options = {
+  scenarios: {
+    auth: ramp('validateToken', 2000),
+    projects: ramp('listProjects', 2000),
+    tasks: ramp('listAndCreateTasks', 2000),
+    pools: {
+      executor: 'constant-arrival-rate',
+      exec: 'samplePools',
+      rate: 1,
+      timeUnit: '5s',
+      duration: '3m30s',
+      preAllocatedVUs: 1,
+    },
+  },
+};
+
+export function setup() {
+  const credentials = { name: 'Pool Test', email: `pooltest-${Date.now()}@example.com`, password: 'pooltest-password' };
+  const json = { 'Content-Type': 'application/json' };
+  http.post(`${AUTH_URL}/api/auth/register`, JSON.stringify(credentials), { headers: json });
+  const token = http.post(`${AUTH_URL}/api/auth/login`,
+    JSON.stringify({ email: credentials.email, password: credentials.password }), { headers: json }).json('token');
+
+  const headers = { ...json, Authorization: `Bearer ${token}` };
+  const project = http.post(`${PROJECT_URL}/api/projects`,
+    JSON.stringify({ title: 'Pool test project', description: 'Created by k6' }), { headers }).json();
+  return { token, headers, projectId: project.id };
+}
+
+export function validateToken(data) {
+  const response = http.post(`${AUTH_URL}/api/auth/validate`, null,
+    { headers: data.headers, tags: { name: 'auth-validate' } });
+  check(response, { 'auth ok': (r) => r.status === 200 });
+}
+
+export function listProjects(data) {
+  const response = http.get(`${PROJECT_URL}/api/projects`, { headers: data.headers, tags: { name: 'project-list' } });
+  check(response, { 'projects ok': (r) => r.status === 200 });
+}
+
+export function listAndCreateTasks(data) {
+  if (Math.random() < 0.2) {
+    http.post(`${TASK_URL}/api/tasks`,
+      JSON.stringify({ title: `Task ${Date.now()}`, projectId: data.projectId }),
+      { headers: data.headers, tags: { name: 'task-create' } });
+    return;
+  }
+  const response = http.get(`${TASK_URL}/api/tasks/project/${data.projectId}?limit=100`,
+    { headers: data.headers, tags: { name: 'task-list' } });
+  check(response, { 'tasks ok': (r) => r.status === 200 });
+}
+
+export function samplePools() {
+  for (const [service, url] of [['auth', AUTH_URL], ['project', PROJECT_URL], ['task', TASK_URL]]) {
+    const response = http.get(`${url}/internal/metrics`, { headers: INTERNAL_HEADERS, tags: { name: 'metrics' } });
+    if (response.status === 200) {
+      console.log(`${service} ${JSON.stringify(response.json('connectionPool'))}`);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+// k6 load test for the project list, the request that fans out to task-service.
+// Run once per execution mode and compare the summaries:
+//   k6 run -e BASE_URL=http://localhost:8082 -e AUTH_URL=http://localhost:8081 loadtest/projects-list.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const AUTH_URL = __ENV.AUTH_URL || 'http://localhost:8081';
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 10,
+      stages: [
+        { duration: '30s', target: 100 },
+        { duration: '1m', target: 400 },
+        { duration: '1m', target: 800 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{name:list}': ['p(95)<500'],
+  },
+};
+
+export function setup() {
+  const credentials = {
+    email: `loadtest-${Date.now()}@example.com`,
+    password: 'loadtest-password',
+    name: 'Load Test',
+  };
+  http.post(`${AUTH_URL}/api/auth/register`, JSON.stringify(credentials), {
+    headers: { 'Content-Type': 'application/json' },
+  });
+  const login = http.post(`${AUTH_URL}/api/auth/login`,
+    JSON.stringify({ email: credentials.email, password: credentials.password }),
+    { headers: { 'Content-Type': 'application/json' } });
+  const token = login.json('token');
+
+  const headers = { 'Content-Type': 'application/json', Authorization: `Bearer ${token}` };
+  for (let i = 0; i < 20; i++) {
+    http.post(`${BASE_URL}/api/projects`,
+      JSON.stringify({ title: `Load test project ${i}`, description: 'Created by k6' }), { headers });
+  }
+  return { headers };
+}
+
+export default function (data) {
+  const response = http.get(`${BASE_URL}/api/projects`, { headers: data.headers, tags: { name: 'list' } });
+  check(response, { 'status is 200': (r) => r.status === 200 });
+}